@@ -25,6 +25,9 @@ android {
             )
         }
     }
+    buildFeatures {
+        buildConfig = true  // MetricsOverlay 는 디버그 빌드에서만
+    }
     compileOptions {
         sourceCompatibility = JavaVersion.VERSION_1_8
         targetCompatibility = JavaVersion.VERSION_1_8
@@ -33,12 +36,16 @@ android {
 
 dependencies {
 
+    implementation(project(":core"))
     implementation ("com.google.mlkit:translate:17.0.0")
     implementation ("com.google.code.gson:gson:2.8.8")
     implementation("androidx.appcompat:appcompat:1.7.0")
     implementation("com.google.android.material:material:1.12.0")
     implementation("androidx.constraintlayout:constraintlayout:2.1.4")
+    implementation("androidx.recyclerview:recyclerview:1.3.2")
+    implementation("androidx.lifecycle:lifecycle-viewmodel:2.6.1")  // TranslatorManager (appcompat 과 같은 버전)
     testImplementation("junit:junit:4.13.2")
     androidTestImplementation("androidx.test.ext:junit:1.2.1")
     androidTestImplementation("androidx.test.espresso:espresso-core:3.6.1")
+    androidTestImplementation(testFixtures(project(":core")))
 }
\ No newline at end of file
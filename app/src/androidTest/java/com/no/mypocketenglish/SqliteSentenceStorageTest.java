@@ -0,0 +1,66 @@
+package com.no.mypocketenglish;
+
+import android.content.Context;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.platform.app.InstrumentationRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+// 파일 저장소와 같은 공통 테스트 + 처음 만들 때 파일 저장소에서 옮겨 오기
+@RunWith(AndroidJUnit4.class)
+public class SqliteSentenceStorageTest extends SentenceStorageContract {
+
+    private static final String DATABASE_NAME = "sentences-test.db";
+
+    private Context context;
+
+    @Before
+    public void setUp() {
+        context = InstrumentationRegistry.getInstrumentation().getTargetContext();
+        context.deleteDatabase(DATABASE_NAME);
+    }
+
+    @After
+    public void tearDown() {
+        context.deleteDatabase(DATABASE_NAME);
+    }
+
+    @Override
+    protected SentenceStorage open() {
+        return new SqliteSentenceStorage(context, DATABASE_NAME, null);
+    }
+
+    @Test
+    public void copiesSeedOnFirstCreate() throws Exception {
+        File dir = new File(context.getCacheDir(), "seed-" + System.nanoTime());
+        assertTrue(dir.mkdirs());
+        SentenceJournalStore seed = new SentenceJournalStore(dir, 1024 * 1024);
+        List<SentencePair> drafts = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            drafts.add(new SentencePair(0, "s" + i, "t" + i, 0, i % 3, 0));
+        }
+        seed.addAll(drafts);
+        seed.delete(1);
+
+        SqliteSentenceStorage storage = new SqliteSentenceStorage(context, DATABASE_NAME, seed);
+        try {
+            List<SentencePair> copied = storage.load();
+            assertEquals(seed.load().size(), copied.size());
+            assertEquals(2, copied.get(0).id);
+            assertEquals(1, copied.get(0).correctCount);
+            assertEquals(1001, storage.add("next", "다음").id);  // id 는 이어서 붙는다
+        } finally {
+            storage.close();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.no.mypocketenglish;
+
+import android.content.Context;
+import android.util.Log;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 뜻이 빈 문장 자동 번역 (BatchTranslation) 을 프로세스에 하나만 돌린다
+// 화면과 상관없이 전용 스레드에서 돌고, 번역기는 화면과 같은 모델을 쓴다 (TranslatorManager 는 모델을 프로세스에
+// 하나만 두므로 화면에서 이미 준비됐으면 바로 시작). 모델이 준비되면 (READY) 시작하고 끝나면 놓는다.
+// 앱이 도중에 죽으면 checkpoint 파일이 남으므로, 목록 화면을 열 때 resumeIfInterrupted() 로 이어 간다.
+// 사용자가 멈춘 작업 (cancel) 은 저절로 이어 가지 않고, 다시 시작하면 멈춘 자리부터 이어 간다.
+// 진행 상황은 등록한 화면에 메인 스레드로 알린다. 모든 메서드는 메인 스레드에서 호출할 것.
+public final class BackgroundTranslation {
+
+    public interface Listener {
+        void onProgress(BatchTranslation.Progress progress);
+
+        void onFailed(Exception e);
+    }
+
+    private static final String TAG = "BackgroundTranslation";
+    private static final String CHECKPOINT_NAME = "batch_translation.checkpoint";
+
+    private static final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "batch-translate");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private static TranslatorManager translator;  // 돌고 있는 동안만 잡아 두는 모델 (null: 멈춤)
+    private static BatchTranslation job;
+    private static boolean jobStarted = false;  // 모델이 준비돼서 작업 스레드로 넘겼음
+    private static BatchTranslation.Progress lastProgress;
+
+    private BackgroundTranslation() {
+    }
+
+    public static boolean isRunning() {
+        return translator != null;
+    }
+
+    public static void start(Context context) {
+        if (isRunning()) {
+            return;
+        }
+        Context app = context.getApplicationContext();
+        Executor main = app.getMainExecutor();
+        TranslatorManager manager = new TranslatorManager();  // 화면이 쓰는 모델을 같이 잡는다
+        manager.start();  // 이미 준비됐으면 그대로, 실패했었으면 다시 받는다 (상태를 받기 전에)
+        translator = manager;
+        job = new BatchTranslation(StorageEngines.repository(app), manager, main,
+                new File(app.getFilesDir(), CHECKPOINT_NAME));
+        BatchTranslation started = job;
+        manager.setListener(state -> {
+            if (state == TranslatorManager.State.READY) {
+                manager.setListener(null);
+                jobStarted = true;
+                worker.execute(() -> run(started, main));
+            } else if (state == TranslatorManager.State.FAILED) {
+                // 모델이 없으면 모든 문장이 실패로 지나가므로 시작하지 않는다 (checkpoint 는 그대로)
+                manager.setListener(null);
+                finish(new IllegalStateException("Translation model unavailable"));
+            }
+        });
+    }
+
+    // 지난번에 도는 도중 앱이 죽은 작업이 있으면 이어서 돌린다 (사용자가 멈춘 작업은 그대로 둠)
+    public static void resumeIfInterrupted(Context context) {
+        if (isRunning()) {
+            return;
+        }
+        try {
+            if (BatchTranslation.isInterrupted(new File(context.getFilesDir(), CHECKPOINT_NAME))) {
+                Log.i(TAG, "resumeIfInterrupted: resuming");
+                start(context);
+            }
+        } catch (IOException e) {
+            Log.e(TAG, "resumeIfInterrupted: unreadable checkpoint", e);
+        }
+    }
+
+    // 나가 있는 번역이 돌아오면 그 페이지까지 저장하고 멈춘다 (다시 시작하면 이어 감, 저절로 이어 가지는 않음)
+    // 모델이 아직 준비 전이면 (Wi-Fi 를 기다리며 받는 중 등) 기다리지 않고 바로 멈춘다 (checkpoint 는 멈춤 표시만 함).
+    public static void cancel() {
+        if (job == null) {
+            return;
+        }
+        job.cancel();
+        if (!jobStarted) {
+            translator.setListener(null);
+            BatchTranslation paused = job;
+            worker.execute(() -> {
+                try {
+                    paused.markPaused();
+                } catch (IOException e) {
+                    Log.e(TAG, "cancel: failed to mark checkpoint", e);
+                }
+            });
+            finish(null);
+        }
+    }
+
+    // 등록하면 마지막 진행 상황을 바로 알려준다
+    public static void addListener(Listener listener) {
+        listeners.add(listener);
+        if (lastProgress != null) {
+            listener.onProgress(lastProgress);
+        }
+    }
+
+    public static void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    // 작업 스레드
+    private static void run(BatchTranslation started, Executor main) {
+        Exception error = null;
+        try {
+            BatchTranslation.Progress result = started.run(progress -> main.execute(() -> publish(progress)));
+            Log.i(TAG, "run: " + result);
+        } catch (Exception e) {
+            Log.e(TAG, "run: failed", e);
+            error = e;
+        }
+        Exception failure = error;
+        main.execute(() -> finish(failure));
+    }
+
+    private static void publish(BatchTranslation.Progress progress) {
+        lastProgress = progress;
+        for (Listener listener : listeners) {
+            listener.onProgress(progress);
+        }
+    }
+
+    private static void finish(Exception error) {
+        translator.close();
+        translator = null;
+        job = null;
+        jobStarted = false;
+        BatchTranslation.Progress last = lastProgress;
+        lastProgress = null;
+        for (Listener listener : listeners) {
+            if (error != null) {
+                listener.onFailed(error);
+            } else if (last != null) {
+                listener.onProgress(last);  // 끝났음을 알림 (버튼 상태 등)
+            }
+        }
+    }
+}
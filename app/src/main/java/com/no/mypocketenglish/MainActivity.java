@@ -1,13 +1,17 @@
 package com.no.mypocketenglish;
 
 import androidx.appcompat.app.AppCompatActivity;
+import androidx.lifecycle.ViewModelProvider;
 import android.app.Dialog;
 import android.content.Context;
 import android.content.Intent;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.text.Spannable;
 import android.text.SpannableString;
 import android.text.style.ForegroundColorSpan;
+import android.util.Log;
 import android.view.MotionEvent;
 import android.view.View;
 import android.view.Window;
@@ -19,49 +23,48 @@ import android.widget.ImageView;
 import android.widget.TextView;
 import android.widget.Toast;
 
-import com.google.mlkit.nl.translate.TranslateLanguage;
-import com.google.mlkit.nl.translate.Translator;
-import com.google.mlkit.nl.translate.TranslatorOptions;
-import com.google.mlkit.common.model.DownloadConditions;
-
-import java.io.BufferedReader;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
+
 import java.util.List;
 import java.util.Random;
 
 public class MainActivity extends AppCompatActivity {
 
+    private static final String TAG = "MainActivity";
+
     private EditText editTextSentence, editTextTranslation;
     private Button buttonSave, buttonList, buttonStartTest, buttonShowAnswer, buttonStartGame, buttonShowScore;
     private TextView textViewQuestion, textViewAnswer;
-    private List<String> sentenceList;
-    private List<String> testList;
-    private Random random;
-    private String currentSentenceSet = "";
-    private String correctAnswer = "";
-    private int totalScore = 0; // 총점 변수
+    // 다음 문제 선택 (Leitner 상자) + 선택지까지 만든 문제를 백그라운드에서 미리 준비
+    private QuestionPrefetcher questionPrefetcher;
+    private SentencePair currentSentenceSet; // 지금 보고 있는 문제
     private int currentGameScore = 0; // 이번 게임 점수 변수
 
-    // Translator 객체
-    private Translator englishKoreanTranslator;
+    // 번역기는 화면 회전에도 하나를 계속 쓴다 (액티비티가 끝날 때 닫힘)
+    private TranslatorManager translatorManager;
+    private TranslationPipeline translationPipeline; // 입력 중 실시간 번역 (debounce)
+
+    // 두 액티비티가 공유하는 문장 캐시 (sentence_data.txt 는 첫 실행 때 가져옴)
+    private SentenceRepository sentenceRepository;
+    private ScoreLedger scoreLedger; // 총점 / 문장별 기록 / 게임 요약 (모아서 저장)
+
+    // 다른 화면에서 문장이 바뀌면 문제 리스트를 다시 만든다
+    private final SentenceRepository.Listener sentenceListener = version -> reloadSentenceList();
 
-    // Internal Storage 파일명
-    private static final String FILE_NAME = "sentence_data.txt";
-    private static final String SCORE_FILE_NAME = "total_score_data.txt"; // 총점을 저장할 파일 이름
+    // 시작 구간 측정 (첫 프레임까지의 시간과 단계별 Trace 섹션)
+    private final StartupTrace startupTrace = new StartupTrace(TAG);
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
-        setContentView(R.layout.activity_main);
-
-        // 총점 로드
-        totalScore = loadTotalScore();
+        // 첫 프레임 전에는 화면과 리스너만 만든다. 덱/총점은 I/O 스레드, 번역기는 처음 입력할 때.
+        startupTrace.watchFirstFrame(getWindow().getDecorView());
+        startupTrace.section("MainActivity.setContentView", () -> setContentView(R.layout.activity_main));
+        startupTrace.section("MainActivity.bindViews", this::bindViews);
+        startupTrace.section("MainActivity.startLoads", this::startLoads);
+        MetricsOverlay.attachIfDebug(this);
+    }
 
+    private void bindViews() {
         // 뷰 초기화
         editTextSentence = findViewById(R.id.editTextSentence);
         editTextTranslation = findViewById(R.id.editTextTranslation);
@@ -74,25 +77,12 @@ public class MainActivity extends AppCompatActivity {
         textViewQuestion = findViewById(R.id.textViewQuestion);
         textViewAnswer = findViewById(R.id.textViewAnswer);
 
-        random = new Random();
-        sentenceList = loadSentenceSets(); // 파일에서 데이터 로드
-
-        if (sentenceList.isEmpty()) {
-            sentenceList = new ArrayList<>();
-        }
-
-        resetTestList();
-
-        // 번역 옵션 설정 (영어 -> 한국어)
-        TranslatorOptions options = new TranslatorOptions.Builder()
-                .setSourceLanguage(TranslateLanguage.ENGLISH)
-                .setTargetLanguage(TranslateLanguage.KOREAN)
-                .build();
-        englishKoreanTranslator = com.google.mlkit.nl.translate.Translation.getClient(options);
-
-        DownloadConditions conditions = new DownloadConditions.Builder().requireWifi().build();
-        englishKoreanTranslator.downloadModelIfNeeded(conditions)
-                .addOnSuccessListener(aVoid -> Toast.makeText(MainActivity.this, "How are you doing :)", Toast.LENGTH_SHORT).show());
+        // 번역기는 문장 입력란에 처음 포커스가 갈 때 만든다 (ML Kit 초기화와 모델 다운로드를 첫 화면 뒤로 미룸)
+        editTextSentence.setOnFocusChangeListener((v, hasFocus) -> {
+            if (hasFocus) {
+                ensureTranslator();
+            }
+        });
 
         editTextSentence.addTextChangedListener(new android.text.TextWatcher() {
             @Override
@@ -103,7 +93,12 @@ public class MainActivity extends AppCompatActivity {
 
             @Override
             public void afterTextChanged(android.text.Editable editable) {
-                translateText(editable.toString());
+                if (editable.length() > 0) {
+                    ensureTranslator();
+                }
+                if (translationPipeline != null) {
+                    translationPipeline.submit(editable.toString());
+                }
             }
         });
 
@@ -134,21 +129,120 @@ public class MainActivity extends AppCompatActivity {
 
         // 총점 버튼을 눌렀을 때 다이얼로그 표시
         buttonShowScore.setOnClickListener(v -> showScoreDialog());
+
+        // 회전 뒤에는 이전 액티비티가 쓰던 번역기를 그대로 받는다 (모델은 처음 입력할 때 준비)
+        translatorManager = new ViewModelProvider(this).get(TranslatorManager.class);
+        translatorManager.setListener(this::showTranslatorState);
+    }
+
+    // 덱과 총점은 I/O 스레드에서 읽는다
+    private void startLoads() {
+        questionPrefetcher = new QuestionPrefetcher(new Random(), 4);
+        if (BuildConfig.DEBUG && getIntent().hasExtra("storage_engine")) {
+            StorageEngines.select(this, getIntent().getStringExtra("storage_engine")); // 엔진 비교용 (adb)
+        }
+        sentenceRepository = StorageEngines.repository(this);
+        sentenceRepository.addListener(sentenceListener);
+        reloadSentenceList(); // 저장소에서 데이터 로드 (백그라운드)
+
+        // 총점 로드 (백그라운드)
+        scoreLedger = new ScoreLedger(getFilesDir(), new ScoreStore(getFilesDir()),
+                sentenceRepository, getMainExecutor());
+        StorageExecutor.submit(getMainExecutor(), startupTrace.wrap("MainActivity.loadScore", scoreLedger::load), null);
+    }
+
+    // 번역기와 실시간 번역 파이프라인을 처음 필요할 때 한 번만 만든다
+    private void ensureTranslator() {
+        translatorManager.start(); // 모델 받기 + warm-up (이미 했으면 그대로, 실패했으면 다시)
+        if (translationPipeline != null) {
+            return;
+        }
+        startupTrace.section("MainActivity.createTranslator", () -> {
+            // 같은 문장은 캐시에서 바로 번역 (메모리 -> 디스크 -> ML Kit)
+            TranslationCache translationCache = TranslationCache.getInstance(getFilesDir());
+            TextTranslator translator = new CachingTextTranslator(translationCache, TranslatorManager.LANGUAGE_PAIR,
+                    translatorManager, getMainExecutor());
+            translationPipeline = new TranslationPipeline(translator,
+                    new TranslationPipeline.Listener() {
+                        @Override
+                        public void onTranslation(String sourceText, String translatedText) {
+                            showTranslation(translatedText);
+                        }
+
+                        @Override
+                        public void onTranslationFailed(String sourceText, Exception e) {
+                            Toast.makeText(MainActivity.this, "Translation failed", Toast.LENGTH_SHORT).show();
+                        }
+                    }, mainScheduler());
+        });
     }
 
-    // 번역 함수
-    private void translateText(String text) {
-        englishKoreanTranslator.translate(text)
-                .addOnSuccessListener(translatedText -> {
-                    SpannableString spannableTranslation = new SpannableString(translatedText);
-                    spannableTranslation.setSpan(
-                            new ForegroundColorSpan(0xFF999999),
-                            0, spannableTranslation.length(),
-                            Spannable.SPAN_EXCLUSIVE_EXCLUSIVE
-                    );
-                    editTextTranslation.setText(spannableTranslation);
-                })
-                .addOnFailureListener(e -> Toast.makeText(MainActivity.this, "Translation failed", Toast.LENGTH_SHORT).show());
+    // debounce 는 메인 Looper 에서 기다린다
+    private static TranslationPipeline.Scheduler mainScheduler() {
+        Handler handler = new Handler(Looper.getMainLooper());
+        return new TranslationPipeline.Scheduler() {
+            @Override
+            public void postDelayed(Runnable task, long delayMs) {
+                handler.postDelayed(task, delayMs);
+            }
+
+            @Override
+            public void cancel(Runnable task) {
+                handler.removeCallbacks(task);
+            }
+        };
+    }
+
+    // 번역 모델 상태를 뜻 입력칸 안내 문구로 보여준다
+    private void showTranslatorState(TranslatorManager.State state) {
+        switch (state) {
+            case DOWNLOADING:
+                editTextTranslation.setHint("Downloading translation model...");
+                break;
+            case WARMING_UP:
+                editTextTranslation.setHint("Preparing translator...");
+                break;
+            case FAILED:
+                editTextTranslation.setHint("Mean (translation unavailable)");
+                break;
+            default:
+                editTextTranslation.setHint("Mean");
+                break;
+        }
+    }
+
+    @Override
+    protected void onPause() {
+        scoreLedger.flush(); // 화면을 떠날 때 모아 둔 점수를 저장
+        super.onPause();
+    }
+
+    @Override
+    protected void onDestroy() {
+        sentenceRepository.removeListener(sentenceListener);
+        translatorManager.setListener(null); // 번역기는 ViewModel 이 들고 있다가 액티비티가 끝나면 닫는다
+        if (translationPipeline != null) {
+            translationPipeline.cancel();
+        }
+        // 다시 쓰던 다이얼로그는 창이 새지 않도록 닫는다
+        if (gameDialog != null) {
+            gameDialog.dismiss();
+        }
+        if (testDialog != null) {
+            testDialog.dismiss();
+        }
+        super.onDestroy();
+    }
+
+    // 번역 결과 표시
+    private void showTranslation(String translatedText) {
+        SpannableString spannableTranslation = new SpannableString(translatedText);
+        spannableTranslation.setSpan(
+                new ForegroundColorSpan(0xFF999999),
+                0, spannableTranslation.length(),
+                Spannable.SPAN_EXCLUSIVE_EXCLUSIVE
+        );
+        editTextTranslation.setText(spannableTranslation);
     }
 
     @Override
@@ -165,148 +259,130 @@ public class MainActivity extends AppCompatActivity {
     }
 
     // 게임 시작 다이얼로그
-    private void showGameDialog() {
-        final Dialog dialog = new Dialog(MainActivity.this);
-        dialog.requestWindowFeature(Window.FEATURE_NO_TITLE);
-        dialog.setContentView(R.layout.dialog_game);
+    // 게임/테스트 다이얼로그는 처음 열 때 한 번만 만들고 계속 다시 쓴다
+    private Dialog gameDialog;
+    private TextView gameQuestionView;
+    private Button[] gameOptions;
+    private QuestionPrefetcher.Question currentQuestion; // 게임에서 보고 있는 문제 (null: 문제 없음)
+    private Dialog testDialog;
+    private TextView testQuestionView, testAnswerView;
 
-        TextView textViewQuestion = dialog.findViewById(R.id.textViewQuestion);
-        Button buttonOption1 = dialog.findViewById(R.id.buttonOption1);
-        Button buttonOption2 = dialog.findViewById(R.id.buttonOption2);
-        Button buttonOption3 = dialog.findViewById(R.id.buttonOption3);
-        Button buttonOption4 = dialog.findViewById(R.id.buttonOption4);
+    // 선택지 버튼 네 개가 같이 쓰는 클릭 리스너 (버튼 인덱스는 태그에서 읽는다)
+    private final View.OnClickListener answerHandler = v -> onOptionClicked((Integer) v.getTag());
 
-        currentGameScore = 0;  // 새로운 게임 시작 시, 이번 게임 점수는 0으로 리셋
-        startGame(textViewQuestion, buttonOption1, buttonOption2, buttonOption3, buttonOption4);
+    private void showGameDialog() {
+        if (gameDialog == null) {
+            gameDialog = createFullScreenDialog(R.layout.dialog_game);
+            gameQuestionView = gameDialog.findViewById(R.id.textViewQuestion);
+            gameOptions = new Button[] {
+                    gameDialog.findViewById(R.id.buttonOption1),
+                    gameDialog.findViewById(R.id.buttonOption2),
+                    gameDialog.findViewById(R.id.buttonOption3),
+                    gameDialog.findViewById(R.id.buttonOption4)
+            };
+            for (int i = 0; i < gameOptions.length; i++) {
+                gameOptions[i].setTag(i);
+                gameOptions[i].setOnClickListener(answerHandler);
+            }
+            gameDialog.setOnDismissListener(dialogInterface -> {
+                scoreLedger.endSession();
+                scoreLedger.flush();
+                Toast.makeText(MainActivity.this, "See you again :) ", Toast.LENGTH_SHORT).show();
+            });
+        }
 
-        dialog.setOnDismissListener(dialogInterface -> {
-            Toast.makeText(MainActivity.this, "See you again :) ", Toast.LENGTH_SHORT).show();
-        });
+        currentGameScore = 0;  // 새로운 게임 시작 시, 이번 게임 점수는 0으로 리셋
+        scoreLedger.startSession();
+        startGame();
+        gameDialog.show();
+    }
 
+    private Dialog createFullScreenDialog(int layoutId) {
+        Dialog dialog = new Dialog(MainActivity.this);
+        dialog.requestWindowFeature(Window.FEATURE_NO_TITLE);
+        dialog.setContentView(layoutId);
         if (dialog.getWindow() != null) {
             dialog.getWindow().setLayout(WindowManager.LayoutParams.MATCH_PARENT, WindowManager.LayoutParams.MATCH_PARENT);
             dialog.getWindow().setFlags(WindowManager.LayoutParams.FLAG_FULLSCREEN, WindowManager.LayoutParams.FLAG_FULLSCREEN);
         }
-
-        dialog.show();
+        return dialog;
     }
 
-    private String previousSentenceSet = "";
-    private void startGame(TextView textViewQuestion, Button... options) {
-        sentenceList = loadSentenceSets();  // 문제 리스트 로드
-        resetTestList();  // 테스트 리스트 초기화
-
-        if (!testList.isEmpty()) {
-            String currentSentenceSet;
-
-            // 문제 선택 로직: 이전 문제와 같지 않은 문제를 선택
-            do {
-                int randomIndex = random.nextInt(testList.size());
-                currentSentenceSet = testList.remove(randomIndex);
-            } while (currentSentenceSet.equals(previousSentenceSet));  // 이전 문제와 같으면 다시 선택
-
-            // 선택된 문제를 이전 문제로 저장
-            previousSentenceSet = currentSentenceSet;
-
-            // 문제와 답을 분리
-            String[] parts = currentSentenceSet.split("///");
-            if (parts.length == 2) {
-                final String correctAnswer = parts[1];  // 정답 저장
-                textViewQuestion.setText(parts[0]);  // 문제를 TextView에 표시
-
-                // 선택지 버튼에 랜덤하게 정답과 오답 배치
-                int correctButtonIndex = random.nextInt(4);  // 정답이 들어갈 버튼 인덱스
-                for (int i = 0; i < options.length; i++) {
-                    final int index = i;
-                    if (i == correctButtonIndex) {
-                        options[i].setText(correctAnswer);  // 정답 배치
-                    } else {
-                        options[i].setText(generateWrongAnswer());  // 오답 배치
-                    }
-
-                    // 선택지 클릭 리스너 설정
-                    options[i].setOnClickListener(v -> {
-                        if (options[index].getText().equals(correctAnswer)) {
-                            currentGameScore++;  // 정답일 때 점수 증가
-                            totalScore++;  // 총점 증가
-                            saveTotalScore(totalScore);  // 점수 저장
-                            Toast.makeText(MainActivity.this, "Correct! Total Score: " + totalScore, Toast.LENGTH_SHORT).show();
-                        } else {
-                            currentGameScore = 0;  // 오답일 때 이번 게임 점수 리셋
-                            Toast.makeText(MainActivity.this, "Wrong answer", Toast.LENGTH_SHORT).show();
-                        }
-                        startGame(textViewQuestion, options);  // 다음 문제로 이동
-                    });
-                }
+    // 미리 만들어 둔 다음 문제를 버튼에 채운다 (리스너는 그대로, 글자만 바꾼다)
+    private void startGame() {
+        Metrics.Sample sample = Metrics.global().start("game.nextQuestion");
+        currentQuestion = questionPrefetcher.next();  // 복습할 차례가 된 문제 (이전 문제와 다름)
+        if (currentQuestion != null) {
+            gameQuestionView.setText(currentQuestion.getPair().sentence);  // 문제를 TextView에 표시
+            for (int i = 0; i < gameOptions.length; i++) {
+                String option = currentQuestion.getOption(i);
+                // 덱이 작아서 오답이 모자라면 빈 버튼
+                gameOptions[i].setText(option != null ? option : "");
+                gameOptions[i].setEnabled(option != null);
+            }
+        } else {
+            gameQuestionView.setText("No sentences available.");
+            for (Button option : gameOptions) {
+                option.setText("");
+                option.setEnabled(false);
             }
         }
+        sample.stop();
     }
 
-    // 오답 생성 메서드 (현재 문제와 다른 오답을 랜덤하게 선택)
-    private String generateWrongAnswer() {
-        List<String> wrongAnswers = new ArrayList<>(sentenceList);
-        wrongAnswers.remove(currentSentenceSet);  // 현재 문제는 오답 리스트에서 제거
-        String randomWrongAnswer = wrongAnswers.get(random.nextInt(wrongAnswers.size()));
-        return randomWrongAnswer.split("///")[1];  // 랜덤 오답 반환
+    private void onOptionClicked(int index) {
+        if (currentQuestion == null) {
+            return;
+        }
+        long questionId = currentQuestion.getPair().id;
+        if (index == currentQuestion.getCorrectIndex()) {
+            currentGameScore++;  // 정답일 때 점수 증가
+            scoreLedger.record(questionId, true);  // 총점 증가 (저장은 나중에 한꺼번에)
+            questionPrefetcher.answer(true);
+            Toast.makeText(MainActivity.this, "Correct! Total Score: " + scoreLedger.getTotalScore(), Toast.LENGTH_SHORT).show();
+        } else {
+            currentGameScore = 0;  // 오답일 때 이번 게임 점수 리셋
+            scoreLedger.record(questionId, false);
+            questionPrefetcher.answer(false);
+            Toast.makeText(MainActivity.this, "Wrong answer", Toast.LENGTH_SHORT).show();
+        }
+        startGame();  // 다음 문제로 이동
     }
 
     private void showTestDialog() {
-        final Dialog dialog = new Dialog(MainActivity.this);
-        dialog.requestWindowFeature(Window.FEATURE_NO_TITLE);
-        dialog.setContentView(R.layout.dialog_test);
-
-        TextView textViewQuestion = dialog.findViewById(R.id.textViewQuestion);
-        Button buttonShowAnswer = dialog.findViewById(R.id.buttonShowAnswer);
-        TextView textViewAnswer = dialog.findViewById(R.id.textViewAnswer);
-        Button buttonNextQuestion = dialog.findViewById(R.id.buttonNextQuestion);
-        Button buttonClose = dialog.findViewById(R.id.buttonClose);
-
-        startTest(textViewQuestion, textViewAnswer);
-
-        buttonShowAnswer.setOnClickListener(v -> showAnswer(textViewAnswer));
-
-        buttonNextQuestion.setOnClickListener(v -> startTest(textViewQuestion, textViewAnswer));
-
-        buttonClose.setOnClickListener(v -> dialog.dismiss());
-
-        if (dialog.getWindow() != null) {
-            dialog.getWindow().setLayout(WindowManager.LayoutParams.MATCH_PARENT, WindowManager.LayoutParams.MATCH_PARENT);
-            dialog.getWindow().setFlags(WindowManager.LayoutParams.FLAG_FULLSCREEN, WindowManager.LayoutParams.FLAG_FULLSCREEN);
+        if (testDialog == null) {
+            testDialog = createFullScreenDialog(R.layout.dialog_test);
+            testQuestionView = testDialog.findViewById(R.id.textViewQuestion);
+            testAnswerView = testDialog.findViewById(R.id.textViewAnswer);
+            Button buttonShowAnswer = testDialog.findViewById(R.id.buttonShowAnswer);
+            Button buttonNextQuestion = testDialog.findViewById(R.id.buttonNextQuestion);
+            Button buttonClose = testDialog.findViewById(R.id.buttonClose);
+
+            buttonShowAnswer.setOnClickListener(v -> showAnswer(testAnswerView));
+            buttonNextQuestion.setOnClickListener(v -> startTest());
+            buttonClose.setOnClickListener(v -> testDialog.dismiss());
         }
 
-        dialog.show();
+        startTest();
+        testDialog.show();
     }
 
-    private void startTest(TextView textViewQuestion, TextView textViewAnswer) {
-        sentenceList = loadSentenceSets();
-        resetTestList();
-
-        if (!testList.isEmpty()) {
-            int randomIndex = random.nextInt(testList.size());
-            currentSentenceSet = testList.remove(randomIndex);
+    private void startTest() {
+        SentencePair sentence = questionPrefetcher.nextSentence();  // 선택지 없이 복습할 차례인 문장만
+        if (sentence != null) {
+            currentSentenceSet = sentence;
 
-            String[] parts = currentSentenceSet.split("///");
-            if (parts.length == 2) {
-                textViewQuestion.setText(parts[0]);
-                textViewAnswer.setText("");
-            } else {
-                textViewQuestion.setText("No valid sentence found.");
-            }
+            testQuestionView.setText(currentSentenceSet.sentence);
+            testAnswerView.setText("");
         } else {
-            textViewQuestion.setText("No sentences available.");
+            testQuestionView.setText("No sentences available.");
         }
     }
 
     private void showAnswer(TextView textViewAnswer) {
-        if (!currentSentenceSet.isEmpty()) {
-            String[] parts = currentSentenceSet.split("///");
-            if (parts.length == 2) {
-                textViewAnswer.setText(parts[1]);
-                textViewAnswer.setVisibility(View.VISIBLE);
-            } else {
-                textViewAnswer.setText("No answer available.");
-                textViewAnswer.setVisibility(View.VISIBLE);
-            }
+        if (currentSentenceSet != null) {
+            textViewAnswer.setText(currentSentenceSet.translation);
+            textViewAnswer.setVisibility(View.VISIBLE);
         } else {
             Toast.makeText(this, "No answer available", Toast.LENGTH_SHORT).show();
         }
@@ -318,9 +394,18 @@ public class MainActivity extends AppCompatActivity {
         dialog.setContentView(R.layout.dialog_score);
 
         // 다이얼로그에서 총점 표시
+        int totalScore = scoreLedger.getTotalScore();
         TextView textViewTotalScore = dialog.findViewById(R.id.textViewTotalScore);
         textViewTotalScore.setText("Total Score: " + totalScore);
 
+        // 최근 게임 요약 (메모리의 집계 값, 파일을 다시 읽지 않음)
+        TextView textViewSessionSummary = dialog.findViewById(R.id.textViewSessionSummary);
+        ScoreLedger.Session session = scoreLedger.getSessionSummary();
+        if (session != null) {
+            textViewSessionSummary.setText("Last game: " + session.getCorrect() + " correct, "
+                    + session.getWrong() + " wrong, best streak " + session.getBestStreak());
+        }
+
         // 이미지 변경을 위한 ImageView 참조
         ImageView rewardImageView = dialog.findViewById(R.id.rewardImageView);
 
@@ -365,62 +450,39 @@ public class MainActivity extends AppCompatActivity {
 
 
 
-    // 문장을 파일에 저장하는 메서드
+    // 문장을 저장소에 저장하는 메서드 (journal 에 한 줄만 추가, 백그라운드)
+    // 버튼을 누른 뒤 저장이 끝날 때까지의 시간을 남긴다
     private void saveSentenceSet(String sentence, String translation) {
-        sentenceList.add(sentence + "///" + translation);
-        try (FileOutputStream fos = openFileOutput(FILE_NAME, Context.MODE_PRIVATE)) {
-            for (String entry : sentenceList) {
-                fos.write((entry + "\n").getBytes());
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-    }
-
-    // 문장을 파일에서 불러오는 메서드
-    private List<String> loadSentenceSets() {
-        List<String> sentenceSets = new ArrayList<>();
-        try (FileInputStream fis = openFileInput(FILE_NAME);
-             InputStreamReader isr = new InputStreamReader(fis, StandardCharsets.UTF_8);
-             BufferedReader reader = new BufferedReader(isr)) {
-
-            String line;
-            while ((line = reader.readLine()) != null) {
-                sentenceSets.add(line);
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-        return sentenceSets;
+        Metrics.Sample sample = Metrics.global().start("deck.save");
+        sentenceRepository.addAsync(sentence, translation, saved -> sample.stop());
     }
 
-    private void resetTestList() {
-        testList = new ArrayList<>(sentenceList);
-    }
+    // 가져오기처럼 여러 번 연달아 바뀌면 한 번만 다시 읽는다 (대기 중인 로드가 최신 상태를 읽음)
+    private boolean reloadPending = false;
 
-    // 총점을 파일에 저장하는 메서드
-    private void saveTotalScore(int newTotalScore) {
-        try (FileOutputStream fos = openFileOutput(SCORE_FILE_NAME, Context.MODE_PRIVATE)) {
-            fos.write(String.valueOf(newTotalScore).getBytes());
-        } catch (IOException e) {
-            e.printStackTrace();
+    // 공유 캐시에서 문제 리스트를 가져온다 (처음 한 번만 파일 I/O, 백그라운드)
+    // 캐시의 읽기 전용 목록을 복사 없이 그대로 쓴다
+    private void reloadSentenceList() {
+        if (reloadPending) {
+            Metrics.global().increment("deck.reload.coalesced");
+            return;
         }
-    }
-
-    // 파일에서 총점을 불러오는 메서드
-    private int loadTotalScore() {
-        int loadedTotalScore = 0;
-        try (FileInputStream fis = openFileInput(SCORE_FILE_NAME);
-             InputStreamReader isr = new InputStreamReader(fis, StandardCharsets.UTF_8);
-             BufferedReader reader = new BufferedReader(isr)) {
+        reloadPending = true;
+        Metrics.Sample sample = Metrics.global().start("deck.reload");  // 요청부터 목록을 문제 워커에 넘길 때까지
+        StorageExecutor.submit(getMainExecutor(), startupTrace.wrap("MainActivity.loadDeck",
+                sentenceRepository::getSentences), new StorageExecutor.Callback<List<SentencePair>>() {
+            @Override
+            public void onSuccess(List<SentencePair> entries) {
+                reloadPending = false;
+                questionPrefetcher.setDeck(entries); // 덱이 바뀔 때만 큐를 다시 만든다 (덱은 문제 워커가 훑음)
+                sample.stop();
+            }
 
-            String line = reader.readLine();
-            if (line != null) {
-                loadedTotalScore = Integer.parseInt(line);
+            @Override
+            public void onFailure(Exception e) {
+                reloadPending = false;
+                Log.e(TAG, "reloadSentenceList: Error loading sentences", e);
             }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-        return loadedTotalScore;
+        });
     }
 }
@@ -0,0 +1,106 @@
+package com.no.mypocketenglish;
+
+import android.app.Activity;
+import android.graphics.Typeface;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import android.view.Gravity;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+import android.widget.TextView;
+import android.widget.Toast;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+// 디버그 빌드에서만 화면 위에 지표 요약을 띄운다 (1 초마다 갱신)
+// 오버레이를 길게 누르면 JSON 스냅샷을 앱 외부 저장소의 metrics/ 폴더에 저장한다
+// (adb pull /sdcard/Android/data/com.no.mypocketenglish/files/metrics/ 로 가져와 빌드끼리 비교).
+public final class MetricsOverlay {
+
+    private static final String TAG = "MetricsOverlay";
+    private static final long REFRESH_MS = 1000;
+
+    private final Activity activity;
+    private final TextView view;
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable refresh = new Runnable() {
+        @Override
+        public void run() {
+            view.setText(Metrics.global().summary());
+            handler.postDelayed(this, REFRESH_MS);
+        }
+    };
+
+    private MetricsOverlay(Activity activity) {
+        this.activity = activity;
+        this.view = new TextView(activity);
+        view.setTypeface(Typeface.MONOSPACE);
+        view.setTextSize(9);
+        view.setTextColor(0xFFFFFFFF);
+        view.setBackgroundColor(0x99000000);
+        view.setPadding(8, 8, 8, 8);
+        view.setOnLongClickListener(v -> {
+            export();
+            return true;
+        });
+        // 화면에 붙어 있는 동안만 갱신
+        view.addOnAttachStateChangeListener(new View.OnAttachStateChangeListener() {
+            @Override
+            public void onViewAttachedToWindow(View v) {
+                handler.post(refresh);
+            }
+
+            @Override
+            public void onViewDetachedFromWindow(View v) {
+                handler.removeCallbacks(refresh);
+            }
+        });
+    }
+
+    // 디버그 빌드가 아니면 아무것도 하지 않는다
+    public static void attachIfDebug(Activity activity) {
+        if (!BuildConfig.DEBUG) {
+            return;
+        }
+        MetricsOverlay overlay = new MetricsOverlay(activity);
+        ViewGroup content = activity.findViewById(android.R.id.content);
+        content.addView(overlay.view, new FrameLayout.LayoutParams(
+                ViewGroup.LayoutParams.WRAP_CONTENT, ViewGroup.LayoutParams.WRAP_CONTENT, Gravity.TOP | Gravity.END));
+    }
+
+    private void export() {
+        Map<String, String> meta = new HashMap<>();
+        meta.put("versionName", BuildConfig.VERSION_NAME);
+        meta.put("versionCode", String.valueOf(BuildConfig.VERSION_CODE));
+        meta.put("buildType", BuildConfig.BUILD_TYPE);
+        meta.put("device", Build.MANUFACTURER + " " + Build.MODEL);
+        meta.put("sdk", String.valueOf(Build.VERSION.SDK_INT));
+        meta.put("storageEngine", StorageEngines.selected(activity));
+        String json = Metrics.global().toJson(meta);
+        File file = new File(activity.getExternalFilesDir("metrics"), "metrics-" + System.currentTimeMillis() + ".json");
+        StorageExecutor.submit(activity.getMainExecutor(), () -> {
+            try (FileOutputStream fos = new FileOutputStream(file)) {
+                fos.write(json.getBytes(StandardCharsets.UTF_8));
+            }
+            return file;
+        }, new StorageExecutor.Callback<File>() {
+            @Override
+            public void onSuccess(File written) {
+                Toast.makeText(activity, "Metrics saved: " + written.getName(), Toast.LENGTH_SHORT).show();
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                Log.e(TAG, "export: failed", e);
+                Toast.makeText(activity, "Metrics export failed", Toast.LENGTH_SHORT).show();
+            }
+        });
+    }
+}
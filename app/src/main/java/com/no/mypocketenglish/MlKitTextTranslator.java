@@ -0,0 +1,20 @@
+package com.no.mypocketenglish;
+
+import com.google.mlkit.nl.translate.Translator;
+
+// ML Kit Translator 를 TextTranslator 로 감싼다 (결과는 메인 스레드에서 전달됨)
+public class MlKitTextTranslator implements TextTranslator {
+
+    private final Translator translator;
+
+    public MlKitTextTranslator(Translator translator) {
+        this.translator = translator;
+    }
+
+    @Override
+    public void translate(String text, Callback callback) {
+        translator.translate(text)
+                .addOnSuccessListener(callback::onTranslated)
+                .addOnFailureListener(callback::onFailed);
+    }
+}
@@ -0,0 +1,108 @@
+package com.no.mypocketenglish;
+
+import android.text.SpannableStringBuilder;
+import android.text.Spanned;
+import android.text.style.ForegroundColorSpan;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.TextView;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListAdapter;
+import androidx.recyclerview.widget.RecyclerView;
+
+import java.util.function.IntFunction;
+
+// 검색 결과 목록 어댑터 (검색어가 없을 때의 전체 목록은 SentencePageAdapter)
+// submitList 의 차이 계산은 백그라운드 스레드에서 하고 (AsyncListDiffer), 바뀐 행만 다시 바인딩한다.
+// 색상은 화면에 보이는 행을 바인딩할 때만 입힌다 (목록 전체를 미리 꾸미지 않음).
+public class SentenceAdapter extends ListAdapter<SentencePair, SentenceAdapter.ViewHolder> {
+
+    // 영어 문장 / 한국어 뜻 색상
+    public static final int COLOR_SENTENCE = 0xFF000000;
+    public static final int COLOR_TRANSLATION = 0xFF999999;
+
+    public interface OnItemLongClickListener {
+        void onItemLongClick(SentencePair entry);
+    }
+
+    private static final DiffUtil.ItemCallback<SentencePair> DIFF = new DiffUtil.ItemCallback<SentencePair>() {
+        @Override
+        public boolean areItemsTheSame(@NonNull SentencePair oldItem, @NonNull SentencePair newItem) {
+            return oldItem.id == newItem.id;
+        }
+
+        @Override
+        public boolean areContentsTheSame(@NonNull SentencePair oldItem, @NonNull SentencePair newItem) {
+            return oldItem.sentence.equals(newItem.sentence) && oldItem.translation.equals(newItem.translation);
+        }
+    };
+
+    private final OnItemLongClickListener longClickListener;
+
+    public SentenceAdapter(OnItemLongClickListener longClickListener) {
+        super(DIFF);
+        this.longClickListener = longClickListener;
+        setHasStableIds(true);
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return getItem(position).id;
+    }
+
+    @NonNull
+    @Override
+    public ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.item_sentence, parent, false);
+        return new ViewHolder(view, this::getItem, longClickListener);
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
+        holder.bind(getItem(position));
+    }
+
+    // 두 어댑터가 같이 쓰는 행 (items: 위치 -> 문장, 아직 읽지 않았으면 null)
+    static class ViewHolder extends RecyclerView.ViewHolder {
+        final TextView textView;
+        // 행마다 한 번만 만들고 바인딩할 때마다 재사용
+        private final SpannableStringBuilder text = new SpannableStringBuilder();
+        private final ForegroundColorSpan sentenceSpan = new ForegroundColorSpan(COLOR_SENTENCE);
+        private final ForegroundColorSpan translationSpan = new ForegroundColorSpan(COLOR_TRANSLATION);
+
+        ViewHolder(View itemView, IntFunction<SentencePair> items, OnItemLongClickListener longClickListener) {
+            super(itemView);
+            textView = itemView.findViewById(R.id.textViewSentence);
+            // 리스너는 ViewHolder 마다 한 번만 등록
+            itemView.setOnLongClickListener(v -> {
+                int position = getBindingAdapterPosition();
+                SentencePair entry = position != RecyclerView.NO_POSITION ? items.apply(position) : null;
+                if (entry == null) {
+                    return false;
+                }
+                longClickListener.onItemLongClick(entry);
+                return true;
+            });
+        }
+
+        void bind(SentencePair entry) {
+            if (entry == null) {
+                textView.setText("");  // 페이지를 읽는 중
+                return;
+            }
+            text.clear();
+            text.append(entry.sentence).append('\n').append(entry.translation);
+            int sentenceEnd = entry.sentence.length();
+            text.setSpan(sentenceSpan, 0, sentenceEnd, Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
+            if (entry.translation.isEmpty()) {
+                text.removeSpan(translationSpan);  // 뜻이 빈 문장 (가져오기만 하고 아직 번역 전): 길이 0 span 은 못 붙임
+            } else {
+                text.setSpan(translationSpan, sentenceEnd + 1, text.length(), Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
+            }
+            textView.setText(text);
+        }
+    }
+}
@@ -1,69 +1,138 @@
 package com.no.mypocketenglish;
 
+import android.database.Cursor;
+import android.net.Uri;
 import android.os.Bundle;
-import android.text.Spannable;
-import android.text.SpannableString;
+import android.provider.OpenableColumns;
 import android.text.TextUtils;
-import android.text.style.ForegroundColorSpan;
 import android.util.Log;
 import android.view.View;
-import android.widget.ArrayAdapter;
 import android.widget.Button;
 import android.widget.EditText;
-import android.widget.ListView;
+import android.widget.TextView;
 import android.widget.Toast;
 
+import androidx.activity.result.ActivityResultLauncher;
+import androidx.activity.result.contract.ActivityResultContracts;
 import androidx.appcompat.app.AlertDialog;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.appcompat.widget.SearchView;
+import androidx.recyclerview.widget.RecyclerView;
 
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class SentenceListActivity extends AppCompatActivity {
 
     private static final String TAG = "SentenceListActivity";
-    private static final String FILE_NAME = "sentence_data.txt";
-    private ListView listView;
-    private ArrayAdapter<SpannableString> adapter;
-    private List<SpannableString> sentenceList;
-    private List<SpannableString> fullSentenceList;
+    private static final int PAGE_SIZE = 50;
+    private static final int MAX_PAGES = 6; // 메모리에 두는 페이지 수 (한 화면 + 위아래 여유)
+
+    // 가져오기/내보내기 파일 처리 (저장소 I/O 스레드는 묶음 저장에만 쓰므로 그 사이 다른 읽기/쓰기가 막히지 않음)
+    private static final ExecutorService transferWorker = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "deck-transfer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private RecyclerView recyclerView;
+    private SearchView searchView;
+    private SentenceAdapter adapter; // 검색 결과
+    private SentencePageAdapter pageAdapter; // 검색어가 없을 때 전체 목록 (페이지 단위로 읽음)
+    private final SentencePageWindow pageWindow = new SentencePageWindow(PAGE_SIZE, MAX_PAGES);
+    private SentenceSearchIndex searchIndex; // 처음 검색할 때 만든다 (null: 아직 없음)
+    private boolean searchIndexLoading = false;
+    private int searchIndexGeneration = 0; // 만드는 도중에 문장이 바뀌면 그 결과는 버린다
+    private SentenceRepository sentenceRepository;
     private Button buttonBack;
+    private Button buttonImport, buttonExport, buttonTranslate;
+    private TextView textViewTransferStatus, textViewCount;
+
+    // 문장이 바뀌면 개수를 다시 읽고 페이지를 버린다 (보이는 페이지만 다시 읽힘). 검색 색인도 버린다.
+    // 하나만 바뀌거나 지워졌으면 들고 있는 페이지에서 그 행만 고친다 (그 페이지를 들고 있지 않을 때만 다시 읽음).
+    // 이때 색인은 수정/삭제를 요청한 쪽에서 그 행만 고친다.
+    private long latestVersion = 0;
+    private boolean countPending = false;
+    private final SentenceRepository.Listener sentenceListener = new SentenceRepository.Listener() {
+        @Override
+        public void onSentencesChanged(long version) {
+            latestVersion = version;
+            reloadPages();
+            invalidateSearchIndex();  // 가져오기, 번역 묶음 저장 등 (멈추거나 실패해도 저장된 만큼 반영)
+        }
+
+        @Override
+        public void onSentenceUpdated(long version, SentencePair entry) {
+            latestVersion = version;
+            int position = pageWindow.replace(entry);
+            if (position >= 0) {
+                pageAdapter.onRowUpdated(position);
+            }
+        }
+
+        @Override
+        public void onSentenceDeleted(long version, long id) {
+            latestVersion = version;
+            int position = countPending ? -1 : pageWindow.remove(id);
+            if (position < 0) {
+                reloadPages();  // 위치를 모름 (읽지 않은 페이지이거나 개수를 읽는 중)
+                return;
+            }
+            pageAdapter.onRowRemoved(position);
+            textViewCount.setText(pageWindow.getCount() + " sentences");
+        }
+    };
+
+    // 뜻이 빈 문장 자동 번역 (화면을 닫아도 계속 돈다)
+    private final BackgroundTranslation.Listener translationListener = new BackgroundTranslation.Listener() {
+        @Override
+        public void onProgress(BatchTranslation.Progress progress) {
+            showTranslationState();
+            textViewTransferStatus.setVisibility(View.VISIBLE);
+            String state = progress.finished ? "Translated " : BackgroundTranslation.isRunning() ? "Translating " : "Paused ";
+            textViewTransferStatus.setText(state + progress);
+        }
+
+        @Override
+        public void onFailed(Exception e) {
+            showTranslationState();
+            Toast.makeText(SentenceListActivity.this, "Translation failed", Toast.LENGTH_SHORT).show();
+        }
+    };
+
+    // 파일 가져오기 / 내보내기 (시스템 파일 선택기)
+    private final ActivityResultLauncher<String[]> importLauncher = registerForActivityResult(
+            new ActivityResultContracts.OpenDocument(), this::importDeck);
+    private final ActivityResultLauncher<String> exportLauncher = registerForActivityResult(
+            new ActivityResultContracts.CreateDocument("*/*"), this::exportDeck);
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_sentence_list);
 
-        listView = findViewById(R.id.listView);
-        SearchView searchView = findViewById(R.id.searchView);
+        recyclerView = findViewById(R.id.recyclerView);
+        searchView = findViewById(R.id.searchView);
         buttonBack = findViewById(R.id.buttonBack);
+        buttonImport = findViewById(R.id.buttonImport);
+        buttonExport = findViewById(R.id.buttonExport);
+        buttonTranslate = findViewById(R.id.buttonTranslate);
+        textViewTransferStatus = findViewById(R.id.textViewTransferStatus);
+        textViewCount = findViewById(R.id.textViewCount);
 
         Log.d(TAG, "onCreate: App started, initializing data");
+        sentenceRepository = StorageEngines.repository(this);
 
-        // 저장된 문장 세트를 불러옵니다
-        try {
-            sentenceList = loadSentenceSets();
-            if (sentenceList == null) {
-                sentenceList = new ArrayList<>(); // 리스트가 null인 경우 빈 리스트로 초기화
-                Log.d(TAG, "onCreate: sentenceList was null, initialized to empty list.");
-            }
-            fullSentenceList = new ArrayList<>(sentenceList); // 검색을 위해 전체 리스트를 저장
-            adapter = new ArrayAdapter<>(this, android.R.layout.simple_list_item_1, sentenceList);
-            listView.setAdapter(adapter);
+        adapter = new SentenceAdapter(this::showCRUDDialog);
+        pageAdapter = new SentencePageAdapter(pageWindow, this::showCRUDDialog, this::requestPage);
+        recyclerView.setAdapter(pageAdapter);
 
-        } catch (Exception e) {
-            Log.e(TAG, "onCreate: Error loading sentences", e);
-            Toast.makeText(this, "Error loading data", Toast.LENGTH_SHORT).show();
-        }
+        sentenceRepository.addListener(sentenceListener);
+        reloadPages();
+        MetricsOverlay.attachIfDebug(this);
 
         buttonBack.setOnClickListener(new View.OnClickListener() {
             @Override
@@ -72,6 +141,27 @@ public class SentenceListActivity extends AppCompatActivity {
             }
         });
 
+        // 확장자로 형식을 고른다 (.tsv / .csv / .json)
+        buttonImport.setOnClickListener(v -> importLauncher.launch(new String[]{"*/*"}));
+        buttonExport.setOnClickListener(v -> new AlertDialog.Builder(this)
+                .setTitle("Export as")
+                .setItems(new String[]{"TSV", "CSV", "JSON"}, (dialog, which) ->
+                        exportLauncher.launch("sentences." + DeckTransfer.Format.values()[which].extension()))
+                .show());
+
+        // 뜻이 빈 문장을 번역기로 채운다 (돌고 있으면 멈춤, 다음에 이어서)
+        buttonTranslate.setOnClickListener(v -> {
+            if (BackgroundTranslation.isRunning()) {
+                BackgroundTranslation.cancel();
+            } else {
+                BackgroundTranslation.start(this);
+            }
+            showTranslationState();
+        });
+        BackgroundTranslation.addListener(translationListener);
+        BackgroundTranslation.resumeIfInterrupted(this); // 앱이 번역 도중에 죽었으면 이어서
+        showTranslationState();
+
         searchView.setOnQueryTextListener(new SearchView.OnQueryTextListener() {
             @Override
             public boolean onQueryTextSubmit(String query) {
@@ -85,98 +175,245 @@ public class SentenceListActivity extends AppCompatActivity {
                 return true;
             }
         });
+    }
 
-        listView.setOnItemLongClickListener((parent, view, position, id) -> {
-            showCRUDDialog(position);
-            return true;
-        });
+    @Override
+    protected void onDestroy() {
+        sentenceRepository.removeListener(sentenceListener);
+        BackgroundTranslation.removeListener(translationListener);
+        super.onDestroy();
     }
 
-    // 리스트 필터링
-    private void filterList(String query) {
-        sentenceList.clear();
-        if (TextUtils.isEmpty(query)) {
-            sentenceList.addAll(fullSentenceList);
-        } else {
-            for (SpannableString sentenceSet : fullSentenceList) {
-                if (sentenceSet.toString().toLowerCase().contains(query.toLowerCase())) {
-                    sentenceList.add(sentenceSet);
+    // 전체 개수만 먼저 읽는다 (덱 헤더나 COUNT 질의). 보이는 페이지는 어댑터가 그릴 때 요청한다.
+    private void reloadPages() {
+        if (countPending) {
+            return;  // 끝나면 버전을 보고 한 번 더 읽는다
+        }
+        countPending = true;
+        long requestedVersion = latestVersion;
+        StorageExecutor.submit(getMainExecutor(), sentenceRepository::count, new StorageExecutor.Callback<Integer>() {
+            @Override
+            public void onSuccess(Integer count) {
+                countPending = false;
+                pageWindow.reset(count);
+                pageAdapter.notifyDataSetChanged();
+                textViewCount.setText(count + " sentences");
+                if (latestVersion != requestedVersion) {
+                    reloadPages();
                 }
             }
+
+            @Override
+            public void onFailure(Exception e) {
+                countPending = false;
+                Log.e(TAG, "reloadPages: Error counting sentences", e);
+                Toast.makeText(SentenceListActivity.this, "Error loading data", Toast.LENGTH_SHORT).show();
+            }
+        });
+    }
+
+    // 페이지 하나를 I/O 스레드에서 읽어 창에 넣는다 (이미 있거나 읽는 중이면 무시)
+    private void requestPage(int page) {
+        if (!pageWindow.startLoading(page)) {
+            return;
         }
-        adapter.notifyDataSetChanged();
+        int generation = pageWindow.getGeneration();
+        Metrics.Sample sample = Metrics.global().start("list.page");  // 요청부터 화면 반영까지
+        StorageExecutor.submit(getMainExecutor(), () -> pageWindow.fetch(generation, page, sentenceRepository::page),
+                new StorageExecutor.Callback<List<SentencePair>>() {
+            @Override
+            public void onSuccess(List<SentencePair> rows) {
+                if (pageWindow.put(generation, page, rows)) {
+                    pageAdapter.onPageLoaded(page, rows.size());
+                } else {
+                    requestPage(page);  // 그 사이 앞쪽 행이 지워져 어긋남: 새 위치로 다시 읽는다 (필요 없으면 무시됨)
+                }
+                sample.stop();
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                pageWindow.cancelLoading(page);
+                Log.e(TAG, "requestPage: Error loading page " + page, e);
+            }
+        });
     }
 
-    // 문장 세트 불러오기
-    private List<SpannableString> loadSentenceSets() {
-        List<SpannableString> sentenceList = new ArrayList<>();
-        try (FileInputStream fis = openFileInput(FILE_NAME);
-             InputStreamReader isr = new InputStreamReader(fis, StandardCharsets.UTF_8);
-             BufferedReader reader = new BufferedReader(isr)) {
-
-            String line;
-            while ((line = reader.readLine()) != null) {
-                String[] parts = line.split("///");
-                if (parts.length == 2) {
-                    String englishSentence = parts[0];
-                    String koreanTranslation = parts[1];
-
-                    // SpannableString으로 각 텍스트의 색상 적용
-                    SpannableString spannableString = new SpannableString(englishSentence + "\n" + koreanTranslation);
-
-                    // 영어 부분에 #000000 적용
-                    spannableString.setSpan(
-                            new ForegroundColorSpan(android.graphics.Color.parseColor("#000000")),
-                            0,
-                            englishSentence.length(),
-                            Spannable.SPAN_EXCLUSIVE_EXCLUSIVE
-                    );
-
-                    // 한국어 부분에 #999999 적용
-                    spannableString.setSpan(
-                            new ForegroundColorSpan(android.graphics.Color.parseColor("#999999")),
-                            englishSentence.length() + 1, // 한 줄 바꿈 이후
-                            spannableString.length(),
-                            Spannable.SPAN_EXCLUSIVE_EXCLUSIVE
-                    );
-
-                    // 리스트에 추가
-                    sentenceList.add(spannableString);
+    // 검색 색인은 전체 문장이 필요하므로 처음 검색할 때 백그라운드에서 만든다
+    private void loadSearchIndex() {
+        if (searchIndexLoading) {
+            return;
+        }
+        searchIndexLoading = true;
+        int generation = searchIndexGeneration;
+        StorageExecutor.submit(getMainExecutor(), () -> {
+            SentenceSearchIndex index = new SentenceSearchIndex();
+            index.addAll(sentenceRepository.getSentences());
+            return index;
+        }, new StorageExecutor.Callback<SentenceSearchIndex>() {
+            @Override
+            public void onSuccess(SentenceSearchIndex index) {
+                searchIndexLoading = false;
+                if (generation == searchIndexGeneration) {
+                    searchIndex = index;
                 }
+                filterList(searchView.getQuery().toString());
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                searchIndexLoading = false;
+                Log.e(TAG, "loadSearchIndex: Error loading sentences", e);
+                Toast.makeText(SentenceListActivity.this, "Error loading data", Toast.LENGTH_SHORT).show();
             }
-        } catch (IOException e) {
-            e.printStackTrace();
+        });
+    }
+
+    // 선택한 파일을 전용 스레드에서 조금씩 읽어서 묶음마다 I/O 스레드로 저장한다 (목록과 색인은 저장소 알림으로 갱신)
+    private void importDeck(Uri uri) {
+        if (uri == null) {
+            return;
         }
-        return sentenceList;
+        DeckTransfer.Format format = DeckTransfer.Format.fromFileName(displayName(uri));
+        setTransferRunning(true);
+        runTransfer(() -> {
+            try (InputStream in = getContentResolver().openInputStream(uri)) {
+                return new DeckTransfer(sentenceRepository).importFrom(in, format, this::postProgress);
+            }
+        }, new StorageExecutor.Callback<DeckTransfer.Progress>() {
+            @Override
+            public void onSuccess(DeckTransfer.Progress result) {
+                Log.d(TAG, "importDeck: " + result);
+                setTransferRunning(false);
+                textViewTransferStatus.setText("Imported " + result);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                Log.e(TAG, "importDeck: failed", e);
+                setTransferRunning(false);
+                Toast.makeText(SentenceListActivity.this, "Import failed", Toast.LENGTH_SHORT).show();
+            }
+        });
+    }
+
+    private void exportDeck(Uri uri) {
+        if (uri == null) {
+            return;
+        }
+        DeckTransfer.Format format = DeckTransfer.Format.fromFileName(displayName(uri));
+        setTransferRunning(true);
+        runTransfer(() -> {
+            try (OutputStream out = getContentResolver().openOutputStream(uri)) {
+                return new DeckTransfer(sentenceRepository).exportTo(out, format, this::postProgress);
+            }
+        }, new StorageExecutor.Callback<DeckTransfer.Progress>() {
+            @Override
+            public void onSuccess(DeckTransfer.Progress result) {
+                Log.d(TAG, "exportDeck: " + result);
+                setTransferRunning(false);
+                textViewTransferStatus.setText("Exported " + result);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                Log.e(TAG, "exportDeck: failed", e);
+                setTransferRunning(false);
+                Toast.makeText(SentenceListActivity.this, "Export failed", Toast.LENGTH_SHORT).show();
+            }
+        });
+    }
+
+    // task 를 가져오기/내보내기 스레드에서 실행하고 결과를 메인 스레드로 전달
+    private void runTransfer(StorageExecutor.Task<DeckTransfer.Progress> task,
+                             StorageExecutor.Callback<DeckTransfer.Progress> callback) {
+        transferWorker.execute(() -> {
+            try {
+                DeckTransfer.Progress result = task.run();
+                runOnUiThread(() -> callback.onSuccess(result));
+            } catch (Exception e) {
+                runOnUiThread(() -> callback.onFailure(e));
+            }
+        });
+    }
+
+    // 가져오기/내보내기 스레드에서 불림
+    private void postProgress(DeckTransfer.Progress progress) {
+        runOnUiThread(() -> textViewTransferStatus.setText(progress.toString()));
+    }
+
+    private void setTransferRunning(boolean running) {
+        buttonImport.setEnabled(!running);
+        buttonExport.setEnabled(!running);
+        textViewTransferStatus.setVisibility(View.VISIBLE);
+    }
+
+    private void showTranslationState() {
+        buttonTranslate.setText(BackgroundTranslation.isRunning() ? "Stop" : "Translate");
+    }
+
+    private String displayName(Uri uri) {
+        try (Cursor cursor = getContentResolver().query(uri,
+                new String[]{OpenableColumns.DISPLAY_NAME}, null, null, null)) {
+            if (cursor != null && cursor.moveToFirst()) {
+                return cursor.getString(0);
+            }
+        }
+        return uri.getLastPathSegment();
+    }
+
+    private void invalidateSearchIndex() {
+        searchIndex = null;
+        searchIndexGeneration++;
+        filterList(searchView.getQuery().toString());  // 검색 중이면 다시 만든다
+    }
+
+    // 리스트 필터링 (색인 검색, 이어서 입력하면 이전 결과 안에서만 찾음)
+    // 검색어가 없으면 페이지 단위 전체 목록으로 돌아간다.
+    // 이전 검색 결과와의 차이는 어댑터가 백그라운드에서 계산한다
+    private void filterList(String query) {
+        if (TextUtils.isEmpty(query)) {
+            if (recyclerView.getAdapter() != pageAdapter) {
+                recyclerView.setAdapter(pageAdapter);
+            }
+            return;
+        }
+        if (searchIndex == null) {
+            loadSearchIndex();  // 다 만들면 다시 불림
+            return;
+        }
+        Metrics.Sample sample = Metrics.global().start("list.filter");
+        if (recyclerView.getAdapter() != adapter) {
+            recyclerView.setAdapter(adapter);
+        }
+        adapter.submitList(searchIndex.search(query));
+        sample.stop();
     }
 
-    private void showCRUDDialog(int position) {
-        final SpannableString selectedSentenceSet = sentenceList.get(position);
+    private void showCRUDDialog(SentencePair selectedSentenceSet) {
         AlertDialog.Builder builder = new AlertDialog.Builder(this);
         builder.setTitle("Choose action");
 
         builder.setItems(new String[]{"Edit", "Delete"}, (dialog, which) -> {
             if (which == 0) {
-                showEditDialog(position);
+                showEditDialog(selectedSentenceSet);
             } else if (which == 1) {
-                deleteSentenceSet(position);
+                deleteSentenceSet(selectedSentenceSet.id);
             }
         });
 
         builder.show();
     }
 
-    private void showEditDialog(int position) {
-        final SpannableString selectedSentenceSet = sentenceList.get(position);
-        String[] parts = selectedSentenceSet.toString().split("\n");
+    private void showEditDialog(SentencePair selectedSentenceSet) {
 
         final EditText editSentence = new EditText(this);
         editSentence.setHint("English Sentence");
-        editSentence.setText(parts[0]);
+        editSentence.setText(selectedSentenceSet.sentence);
 
         final EditText editTranslation = new EditText(this);
         editTranslation.setHint("Korean Translation");
-        editTranslation.setText(parts[1]);
+        editTranslation.setText(selectedSentenceSet.translation);
 
         int paddingDp = (int) (16 * getResources().getDisplayMetrics().density); // dp를 픽셀로 변환
         editSentence.setPadding(paddingDp, paddingDp, paddingDp, paddingDp);
@@ -196,7 +433,7 @@ public class SentenceListActivity extends AppCompatActivity {
             String newTranslation = editTranslation.getText().toString().trim();
 
             if (!newSentence.isEmpty() && !newTranslation.isEmpty()) {
-                updateSentenceSet(position, newSentence, newTranslation);
+                updateSentenceSet(selectedSentenceSet.id, newSentence, newTranslation);
             } else {
                 Toast.makeText(SentenceListActivity.this, "Both fields must be filled", Toast.LENGTH_SHORT).show();
             }
@@ -206,56 +443,32 @@ public class SentenceListActivity extends AppCompatActivity {
         builder.show();
     }
 
-    private void updateSentenceSet(int position, String newSentence, String newTranslation) {
-        SpannableString updatedSentence = new SpannableString(newSentence + "\n" + newTranslation);
-
-        // 영어 부분에 #000000 적용
-        updatedSentence.setSpan(
-                new ForegroundColorSpan(android.graphics.Color.parseColor("#000000")),
-                0,
-                newSentence.length(),
-                Spannable.SPAN_EXCLUSIVE_EXCLUSIVE
-        );
-
-        // 한국어 부분에 #999999 적용
-        updatedSentence.setSpan(
-                new ForegroundColorSpan(android.graphics.Color.parseColor("#999999")),
-                newSentence.length() + 1,
-                updatedSentence.length(),
-                Spannable.SPAN_EXCLUSIVE_EXCLUSIVE
-        );
-
-        sentenceList.set(position, updatedSentence);
-        fullSentenceList.set(position, updatedSentence);
-        adapter.notifyDataSetChanged();
-
-        saveSentenceSets();
-        Toast.makeText(this, "Sentence updated!", Toast.LENGTH_SHORT).show();
-    }
-
-    private void deleteSentenceSet(int position) {
-        sentenceList.remove(position);
-        fullSentenceList.remove(position);
-        adapter.notifyDataSetChanged();
+    private void updateSentenceSet(long id, String newSentence, String newTranslation) {
+        sentenceRepository.updateAsync(id, newSentence, newTranslation, updated -> {
+            if (updated == null) {
+                return;
+            }
+            // 전체 목록은 저장소 알림으로 그 행만 고쳐지고, 검색 결과는 색인만 고친다
+            if (searchIndex != null) {
+                searchIndex.update(updated);
+                filterList(searchView.getQuery().toString());  // 바뀐 행만 다시 바인딩됨
+            }
 
-        saveSentenceSets();
-        Toast.makeText(this, "Sentence deleted!", Toast.LENGTH_SHORT).show();
+            Toast.makeText(this, "Sentence updated!", Toast.LENGTH_SHORT).show();
+        });
     }
 
-    private void saveSentenceSets() {
-        try (FileOutputStream fos = openFileOutput(FILE_NAME, MODE_PRIVATE);
-             OutputStreamWriter osw = new OutputStreamWriter(fos, StandardCharsets.UTF_8);
-             BufferedWriter writer = new BufferedWriter(osw)) {
-
-            for (SpannableString sentence : fullSentenceList) {
-                String[] parts = sentence.toString().split("\n");
-                if (parts.length == 2) {
-                    writer.write(parts[0] + "///" + parts[1]);
-                    writer.newLine();  // 줄바꿈 추가
-                }
+    private void deleteSentenceSet(long id) {
+        sentenceRepository.deleteAsync(id, deleted -> {
+            if (!deleted) {
+                return;
             }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+            if (searchIndex != null) {
+                searchIndex.remove(id);
+                filterList(searchView.getQuery().toString());
+            }
+
+            Toast.makeText(this, "Sentence deleted!", Toast.LENGTH_SHORT).show();
+        });
     }
 }
@@ -0,0 +1,79 @@
+package com.no.mypocketenglish;
+
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.RecyclerView;
+
+// 검색어가 없을 때의 전체 목록 어댑터
+// 행 개수는 전체 문장 수이고, 내용은 페이지 창 (SentencePageWindow) 에서 읽는다.
+// 아직 읽지 않은 행은 빈 칸으로 그리고 그 페이지를 요청하며, 읽은 행을 그릴 때는 가까운 이웃 페이지를 미리 요청한다.
+// 행의 id 는 문장 id 라서 (stable id) 한 행이 지워지거나 바뀌어도 그 행만 다시 그린다.
+public class SentencePageAdapter extends RecyclerView.Adapter<SentenceAdapter.ViewHolder> {
+
+    public interface PageRequester {
+        void requestPage(int page);
+    }
+
+    private final SentencePageWindow window;
+    private final SentenceAdapter.OnItemLongClickListener longClickListener;
+    private final PageRequester pageRequester;
+
+    public SentencePageAdapter(SentencePageWindow window, SentenceAdapter.OnItemLongClickListener longClickListener,
+                               PageRequester pageRequester) {
+        this.window = window;
+        this.longClickListener = longClickListener;
+        this.pageRequester = pageRequester;
+        setHasStableIds(true);
+    }
+
+    // 읽지 않은 행은 위치로 만든 음수 id (문장 id 는 1 부터)
+    @Override
+    public long getItemId(int position) {
+        SentencePair entry = window.get(position);
+        return entry != null ? entry.id : -1L - position;
+    }
+
+    @Override
+    public int getItemCount() {
+        return window.getCount();
+    }
+
+    @NonNull
+    @Override
+    public SentenceAdapter.ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        View view = LayoutInflater.from(parent.getContext()).inflate(R.layout.item_sentence, parent, false);
+        return new SentenceAdapter.ViewHolder(view, window::get, longClickListener);
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull SentenceAdapter.ViewHolder holder, int position) {
+        SentencePair entry = window.get(position);
+        int page = window.pageOf(position);
+        if (entry == null) {
+            pageRequester.requestPage(page);
+        } else {
+            // 가까운 쪽 이웃 페이지를 미리 읽는다 (이미 있거나 읽는 중이면 아무 일도 없음)
+            int offset = position % window.getPageSize();
+            pageRequester.requestPage(offset >= window.getPageSize() / 2 ? page + 1 : page - 1);
+        }
+        holder.bind(entry);
+    }
+
+    // 읽어 온 페이지의 행만 다시 그린다
+    public void onPageLoaded(int page, int rows) {
+        notifyItemRangeChanged(page * window.getPageSize(), rows);
+    }
+
+    // 문장 하나가 바뀜 (창에서 고친 위치)
+    public void onRowUpdated(int position) {
+        notifyItemChanged(position);
+    }
+
+    // 문장 하나가 지워짐 (창에서 뺀 위치). 뒤쪽 행은 RecyclerView 가 한 칸씩 당긴다.
+    public void onRowRemoved(int position) {
+        notifyItemRemoved(position);
+    }
+}
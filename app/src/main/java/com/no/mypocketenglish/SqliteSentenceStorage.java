@@ -0,0 +1,265 @@
+package com.no.mypocketenglish;
+
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteOpenHelper;
+import android.database.sqlite.SQLiteStatement;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// SQLite 문장 저장소 (WAL)
+// id 가 rowid 라서 id 로 찾기/수정/삭제는 인덱스 한 번이고, 페이지는 id 순서로 LIMIT 만큼 읽는다 (keyset).
+// 쓰기 문장은 처음 열 때 한 번만 컴파일해서 계속 다시 쓰고, 여러 줄 쓰기는 트랜잭션 하나로 묶는다.
+// 데이터베이스를 처음 만들 때 seed (기존 파일 저장소) 의 문장을 id 그대로 옮겨 온다.
+// 그 뒤로는 두 엔진이 따로 저장하므로, 엔진을 바꾸면 각자 마지막 상태를 보여준다.
+public final class SqliteSentenceStorage implements SentenceStorage {
+
+    public static final String DATABASE_NAME = "sentences.db";
+    private static final int DATABASE_VERSION = 1;
+
+    private static final String COLUMNS = "id, sentence, translation, created_at, correct_count, wrong_count";
+
+    private final Helper helper;
+    private SQLiteDatabase db;
+    private SQLiteStatement insert;
+    private SQLiteStatement updateText;
+    private SQLiteStatement addStats;
+    private SQLiteStatement fillTranslation;
+    private SQLiteStatement delete;
+    private SQLiteStatement count;
+
+    public SqliteSentenceStorage(Context context, String name, SentenceStorage seed) {
+        this.helper = new Helper(context, name, seed);
+    }
+
+    // 전체 목록은 SentenceArena 에 담는다 (행마다 SentencePair 를 들고 있지 않음)
+    @Override
+    public synchronized List<SentencePair> load() throws IOException {
+        SQLiteDatabase db = database();
+        SentenceArena.Builder arena = new SentenceArena.Builder((int) count.simpleQueryForLong(), 0);
+        try (Cursor cursor = db.rawQuery("SELECT " + COLUMNS + " FROM sentences ORDER BY id", null)) {
+            while (cursor.moveToNext()) {
+                arena.add(cursor.getLong(0), cursor.getString(1), cursor.getString(2),
+                        cursor.getLong(3), cursor.getInt(4), cursor.getInt(5));
+            }
+        }
+        return arena.build().asList();
+    }
+
+    @Override
+    public synchronized SentencePair add(String sentence, String translation) throws IOException {
+        database();
+        long now = System.currentTimeMillis();
+        return new SentencePair(insert(sentence, translation, now, 0, 0), sentence, translation, now, 0, 0);
+    }
+
+    @Override
+    public synchronized List<SentencePair> addAll(List<SentencePair> drafts) throws IOException {
+        SQLiteDatabase db = database();
+        long now = System.currentTimeMillis();
+        List<SentencePair> added = new ArrayList<>(drafts.size());
+        db.beginTransactionNonExclusive();
+        try {
+            for (SentencePair draft : drafts) {
+                long id = insert(draft.sentence, draft.translation, now, draft.correctCount, draft.wrongCount);
+                added.add(new SentencePair(id, draft.sentence, draft.translation, now,
+                        draft.correctCount, draft.wrongCount));
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+        return added;
+    }
+
+    @Override
+    public synchronized SentencePair update(long id, String sentence, String translation) throws IOException {
+        database();
+        updateText.bindString(1, sentence);
+        updateText.bindString(2, translation);
+        updateText.bindLong(3, id);
+        if (updateText.executeUpdateDelete() == 0) {
+            return null;
+        }
+        return get(id);
+    }
+
+    @Override
+    public synchronized List<SentencePair> addStats(Map<Long, int[]> deltas) throws IOException {
+        SQLiteDatabase db = database();
+        List<SentencePair> updated = new ArrayList<>(deltas.size());
+        db.beginTransactionNonExclusive();
+        try {
+            for (Map.Entry<Long, int[]> delta : deltas.entrySet()) {
+                addStats.bindLong(1, delta.getValue()[0]);
+                addStats.bindLong(2, delta.getValue()[1]);
+                addStats.bindLong(3, delta.getKey());
+                if (addStats.executeUpdateDelete() > 0) {
+                    updated.add(get(delta.getKey()));
+                }
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+        return updated;
+    }
+
+    @Override
+    public synchronized List<SentencePair> fillTranslations(Map<Long, String> translations) throws IOException {
+        SQLiteDatabase db = database();
+        List<SentencePair> updated = new ArrayList<>(translations.size());
+        db.beginTransactionNonExclusive();
+        try {
+            for (Map.Entry<Long, String> translation : translations.entrySet()) {
+                fillTranslation.bindString(1, translation.getValue());
+                fillTranslation.bindLong(2, translation.getKey());
+                if (fillTranslation.executeUpdateDelete() > 0) {
+                    updated.add(get(translation.getKey()));
+                }
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+        return updated;
+    }
+
+    @Override
+    public synchronized boolean delete(long id) throws IOException {
+        database();
+        delete.bindLong(1, id);
+        return delete.executeUpdateDelete() > 0;
+    }
+
+    @Override
+    public synchronized int count() throws IOException {
+        database();
+        return (int) count.simpleQueryForLong();
+    }
+
+    @Override
+    public synchronized List<SentencePair> page(long afterId, int limit) throws IOException {
+        SQLiteDatabase db = database();
+        List<SentencePair> page = new ArrayList<>(Math.min(limit, 1024));
+        // LIMIT 은 문자열로 바인딩할 수 없어서 숫자를 그대로 넣는다 (쓰는 값이 몇 개뿐이라 문장 캐시에 남는다)
+        try (Cursor cursor = db.rawQuery("SELECT " + COLUMNS + " FROM sentences WHERE id > ? ORDER BY id LIMIT " + limit,
+                new String[] {Long.toString(afterId)})) {
+            while (cursor.moveToNext()) {
+                page.add(read(cursor));
+            }
+        }
+        return page;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (db != null) {
+            insert.close();
+            updateText.close();
+            addStats.close();
+            fillTranslation.close();
+            delete.close();
+            count.close();
+            db = null;
+        }
+        helper.close();
+    }
+
+    // 처음 부를 때 데이터베이스를 열고 (필요하면 만들고) 쓰기 문장을 컴파일한다
+    private SQLiteDatabase database() throws IOException {
+        if (db == null) {
+            try {
+                db = helper.getWritableDatabase();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();  // seed 를 읽지 못함 (다음에 열 때 다시 만든다)
+            }
+            insert = db.compileStatement("INSERT INTO sentences (sentence, translation, created_at, correct_count, wrong_count)"
+                    + " VALUES (?, ?, ?, ?, ?)");
+            updateText = db.compileStatement("UPDATE sentences SET sentence = ?, translation = ? WHERE id = ?");
+            addStats = db.compileStatement("UPDATE sentences SET correct_count = correct_count + ?,"
+                    + " wrong_count = wrong_count + ? WHERE id = ?");
+            fillTranslation = db.compileStatement("UPDATE sentences SET translation = ? WHERE id = ? AND translation = ''");
+            delete = db.compileStatement("DELETE FROM sentences WHERE id = ?");
+            count = db.compileStatement("SELECT COUNT(*) FROM sentences");
+        }
+        return db;
+    }
+
+    private long insert(String sentence, String translation, long createdAt, int correct, int wrong) {
+        insert.bindString(1, sentence);
+        insert.bindString(2, translation);
+        insert.bindLong(3, createdAt);
+        insert.bindLong(4, correct);
+        insert.bindLong(5, wrong);
+        return insert.executeInsert();
+    }
+
+    private SentencePair get(long id) {
+        try (Cursor cursor = db.rawQuery("SELECT " + COLUMNS + " FROM sentences WHERE id = ?",
+                new String[] {Long.toString(id)})) {
+            return cursor.moveToFirst() ? read(cursor) : null;
+        }
+    }
+
+    private static SentencePair read(Cursor cursor) {
+        return new SentencePair(cursor.getLong(0), cursor.getString(1), cursor.getString(2),
+                cursor.getLong(3), cursor.getInt(4), cursor.getInt(5));
+    }
+
+    private static final class Helper extends SQLiteOpenHelper {
+        private final SentenceStorage seed;
+
+        Helper(Context context, String name, SentenceStorage seed) {
+            super(context, name, null, DATABASE_VERSION);
+            this.seed = seed;
+            setWriteAheadLoggingEnabled(true);  // 읽기가 쓰기를 기다리지 않고, 커밋은 로그 끝에 덧붙이기만 한다
+        }
+
+        @Override
+        public void onCreate(SQLiteDatabase db) {
+            // AUTOINCREMENT: 지운 id 를 다시 쓰지 않는다 (파일 저장소와 같음, 점수 기록이 id 로 찾아감)
+            db.execSQL("CREATE TABLE sentences ("
+                    + "id INTEGER PRIMARY KEY AUTOINCREMENT, "
+                    + "sentence TEXT NOT NULL, "
+                    + "translation TEXT NOT NULL, "
+                    + "created_at INTEGER NOT NULL, "
+                    + "correct_count INTEGER NOT NULL DEFAULT 0, "
+                    + "wrong_count INTEGER NOT NULL DEFAULT 0)");
+            if (seed != null) {
+                copySeed(db);
+            }
+        }
+
+        // onCreate 는 트랜잭션 하나 안에서 실행되므로 한꺼번에 커밋된다
+        private void copySeed(SQLiteDatabase db) {
+            List<SentencePair> entries;
+            try {
+                entries = seed.load();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            try (SQLiteStatement copy = db.compileStatement("INSERT INTO sentences (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?)")) {
+                for (SentencePair entry : entries) {
+                    copy.bindLong(1, entry.id);
+                    copy.bindString(2, entry.sentence);
+                    copy.bindString(3, entry.translation);
+                    copy.bindLong(4, entry.createdAt);
+                    copy.bindLong(5, entry.correctCount);
+                    copy.bindLong(6, entry.wrongCount);
+                    copy.executeInsert();
+                }
+            }
+        }
+
+        @Override
+        public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+            // 아직 버전 1 뿐
+        }
+    }
+}
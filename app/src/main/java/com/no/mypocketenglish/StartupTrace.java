@@ -0,0 +1,90 @@
+package com.no.mypocketenglish;
+
+import android.os.SystemClock;
+import android.os.Trace;
+import android.util.Log;
+import android.view.View;
+import android.view.ViewTreeObserver;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 화면 시작 구간 측정
+// 각 단계를 android.os.Trace 섹션으로 감싸서 systrace / Perfetto 에서 이름으로 보이게 하고,
+// 단계별 시간을 모아 두었다가 첫 프레임이 그려질 때 한 줄로 남긴다.
+// 첫 프레임까지의 시간이 예산을 넘으면 경고 로그에 단계별 시간을 같이 남긴다.
+public final class StartupTrace {
+
+    public static final long FIRST_FRAME_BUDGET_MS = 400;
+
+    private static final String TAG = "StartupTrace";
+
+    private final String name;
+    private final long startUptimeMs = SystemClock.uptimeMillis();
+    private final Map<String, Long> stageMs = new LinkedHashMap<>();
+    private long firstFrameMs = -1;
+
+    public StartupTrace(String name) {
+        this.name = name;
+    }
+
+    // 호출한 스레드에서 바로 실행 (메인 스레드의 필수 단계)
+    public void section(String stage, Runnable work) {
+        long start = SystemClock.uptimeMillis();
+        Trace.beginSection(stage);
+        try {
+            work.run();
+        } finally {
+            Trace.endSection();
+            record(stage, SystemClock.uptimeMillis() - start);
+        }
+    }
+
+    // I/O 스레드에서 실행될 작업을 섹션으로 감싼다 (섹션은 실행하는 스레드에 남는다)
+    public <T> StorageExecutor.Task<T> wrap(String stage, StorageExecutor.Task<T> task) {
+        return () -> {
+            long start = SystemClock.uptimeMillis();
+            Trace.beginSection(stage);
+            try {
+                return task.run();
+            } finally {
+                Trace.endSection();
+                record(stage, SystemClock.uptimeMillis() - start);
+            }
+        };
+    }
+
+    // root 가 처음 그려질 때 첫 프레임까지의 시간을 남긴다
+    public void watchFirstFrame(View root) {
+        root.getViewTreeObserver().addOnDrawListener(new ViewTreeObserver.OnDrawListener() {
+            @Override
+            public void onDraw() {
+                if (firstFrameMs >= 0) {
+                    return;
+                }
+                firstFrameMs = SystemClock.uptimeMillis() - startUptimeMs;
+                // draw 중에는 리스너를 뺄 수 없으므로 다음 루프에서 뺀다
+                root.post(() -> root.getViewTreeObserver().removeOnDrawListener(this));
+                report();
+            }
+        });
+    }
+
+    public long getFirstFrameMs() {
+        return firstFrameMs;
+    }
+
+    private synchronized void record(String stage, long durationMs) {
+        stageMs.put(stage, durationMs);
+    }
+
+    private synchronized void report() {
+        String message = name + " first frame " + firstFrameMs + " ms (budget " + FIRST_FRAME_BUDGET_MS
+                + " ms), stages " + stageMs;
+        if (firstFrameMs > FIRST_FRAME_BUDGET_MS) {
+            Log.w(TAG, message);
+        } else {
+            Log.i(TAG, message);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.no.mypocketenglish;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.util.Log;
+
+// 문장 저장 엔진 선택 (SharedPreferences 에 저장)
+// - "file": 이진 덱 + journal 파일 (기본값)
+// - "sqlite": SQLite (WAL). 처음 고를 때 파일 저장소의 문장을 옮겨 온다.
+// 디버그 빌드에서는 adb 로 바꿀 수 있다:
+//   adb shell am start -n com.no.mypocketenglish/.MainActivity --es storage_engine sqlite
+// 엔진마다 storage.* 타이머가 따로 남도록, 바꾼 뒤 지표를 초기화하고 내보내기에 엔진 이름을 넣는다.
+public final class StorageEngines {
+
+    public static final String FILE = "file";
+    public static final String SQLITE = "sqlite";
+
+    private static final String TAG = "StorageEngines";
+    private static final String PREFS_NAME = "storage";
+    private static final String KEY_ENGINE = "engine";
+
+    private StorageEngines() {
+    }
+
+    public static String selected(Context context) {
+        String engine = prefs(context).getString(KEY_ENGINE, FILE);
+        return SQLITE.equals(engine) ? SQLITE : FILE;
+    }
+
+    // 선택한 엔진으로 만든 공유 저장소
+    public static SentenceRepository repository(Context context) {
+        Context app = context.getApplicationContext();
+        return SentenceRepository.getInstance(() -> create(app, selected(app)), app.getMainExecutor());
+    }
+
+    // 엔진을 바꾼다. 저장소가 이미 있으면 I/O 스레드에서 엔진을 갈아 끼우고 구독자에게 알린다.
+    public static void select(Context context, String engine) {
+        if (!FILE.equals(engine) && !SQLITE.equals(engine)) {
+            Log.w(TAG, "select: unknown engine " + engine);
+            return;
+        }
+        if (engine.equals(selected(context))) {
+            return;
+        }
+        Context app = context.getApplicationContext();
+        prefs(app).edit().putString(KEY_ENGINE, engine).apply();
+        Metrics.global().reset();
+        SentenceRepository repository = SentenceRepository.peekInstance();
+        if (repository != null) {
+            StorageExecutor.submit(app.getMainExecutor(), () -> {
+                repository.setStorage(create(app, engine));
+                return engine;
+            }, new StorageExecutor.Callback<String>() {
+                @Override
+                public void onSuccess(String result) {
+                    Log.i(TAG, "select: switched to " + result);
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    Log.e(TAG, "select: failed to switch to " + engine, e);
+                }
+            });
+        }
+    }
+
+    private static SentenceStorage create(Context context, String engine) {
+        SentenceJournalStore files = SentenceJournalStore.forDirectory(context.getFilesDir());
+        if (SQLITE.equals(engine)) {
+            return new SqliteSentenceStorage(context, SqliteSentenceStorage.DATABASE_NAME, files);
+        }
+        return files;
+    }
+
+    private static SharedPreferences prefs(Context context) {
+        return context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+    }
+}
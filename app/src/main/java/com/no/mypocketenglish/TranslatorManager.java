@@ -0,0 +1,239 @@
+package com.no.mypocketenglish;
+
+import androidx.lifecycle.ViewModel;
+
+import com.google.mlkit.common.model.DownloadConditions;
+import com.google.mlkit.nl.translate.TranslateLanguage;
+import com.google.mlkit.nl.translate.Translation;
+import com.google.mlkit.nl.translate.Translator;
+import com.google.mlkit.nl.translate.TranslatorOptions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 영어 -> 한국어 ML Kit 번역기 관리 (화면 회전 등 구성 변경에도 하나를 계속 씀)
+// ViewModel 이라서 액티비티가 다시 만들어질 때는 그대로 남고, 액티비티가 정말 끝날 때 (onCleared) 놓는다.
+// 화면과 상관없이 쓸 때는 (BackgroundTranslation) 직접 만들고 close() 로 놓는다.
+// 모델은 프로세스에 하나만 둔다 (Engine): 모든 TranslatorManager 가 같은 모델과 준비 상태를 같이 쓰므로
+// 화면에서 이미 받고 warm-up 한 모델을 백그라운드 번역이 그대로 쓰고, 마지막으로 놓는 쪽이 모델을 닫는다.
+// 모델을 받은 뒤 짧은 문장을 한 번 번역해서 (warm-up) 모델을 메모리에 올려 두고, 그 다음부터 준비됨 (READY).
+// 준비 전에 들어온 번역은 모아 두었다가 준비되면 보낸다 (받는 중에 요청해서 실패하지 않도록).
+// 호출마다 걸린 시간을 기록한다: 첫 번역이 끝나기 전까지는 cold (모델 로드 포함), 그 뒤로는 warm (추론만).
+// 모든 메서드는 메인 스레드에서 호출해야 한다 (ML Kit 결과도 메인 스레드로 온다).
+public final class TranslatorManager extends ViewModel implements TextTranslator {
+
+    public static final String LANGUAGE_PAIR = TranslateLanguage.ENGLISH + ">" + TranslateLanguage.KOREAN;
+    private static final String WARM_UP_TEXT = "Hello";
+
+    public enum State { IDLE, DOWNLOADING, WARMING_UP, READY, FAILED, CLOSED }
+
+    public interface Listener {
+        void onStateChanged(State state);
+    }
+
+    // 프로세스에 하나 (메인 스레드에서만 바꿈). 쓰는 TranslatorManager 가 없으면 null.
+    private static Engine shared;
+    private static int users = 0;
+
+    private final Engine engine;
+    private Listener listener;
+    private boolean closed = false;
+
+    public TranslatorManager() {
+        if (shared == null) {
+            shared = new Engine();
+        }
+        users++;
+        engine = shared;
+    }
+
+    public State getState() {
+        return closed ? State.CLOSED : engine.state;
+    }
+
+    // 화면이 바뀔 때마다 새 액티비티가 다시 등록한다 (등록하면 지금 상태를 바로 알려줌). null 이면 해제.
+    public void setListener(Listener listener) {
+        if (this.listener != null) {
+            engine.listeners.remove(this.listener);
+        }
+        this.listener = closed ? null : listener;
+        if (this.listener != null) {
+            engine.listeners.add(this.listener);
+            this.listener.onStateChanged(engine.state);
+        }
+    }
+
+    // 모델 받기 + warm-up 시작 (이미 시작했으면 아무것도 안 함, 실패했으면 다시 시도)
+    public void start() {
+        if (!closed) {
+            engine.start();
+        }
+    }
+
+    @Override
+    public void translate(String text, Callback callback) {
+        if (closed) {
+            callback.onFailed(new IllegalStateException("translator closed"));
+            return;
+        }
+        engine.translate(text, callback);
+    }
+
+    // 액티비티가 끝남 (구성 변경이 아닐 때만 불림)
+    @Override
+    protected void onCleared() {
+        close();
+    }
+
+    // 이 TranslatorManager 를 다 씀. 모델을 쓰는 쪽이 더 없으면 모델을 메모리에서 내린다.
+    public void close() {
+        if (closed) {
+            return;
+        }
+        setListener(null);
+        closed = true;
+        if (--users == 0) {
+            shared = null;
+            engine.close();
+        }
+    }
+
+    // 모델 하나와 그 준비 상태
+    private static final class Engine {
+        private Translator translator;
+        private TextTranslator mlKit;
+        private State state = State.IDLE;
+        private boolean warm = false;  // 번역이 한 번이라도 끝났으면 모델이 메모리에 있음
+        private final List<Listener> listeners = new ArrayList<>();
+        private final List<Pending> waiting = new ArrayList<>();  // 준비 전에 들어온 번역
+
+        void start() {
+            if (state != State.IDLE && state != State.FAILED) {
+                return;
+            }
+            if (translator == null) {
+                TranslatorOptions options = new TranslatorOptions.Builder()
+                        .setSourceLanguage(TranslateLanguage.ENGLISH)
+                        .setTargetLanguage(TranslateLanguage.KOREAN)
+                        .build();
+                translator = Translation.getClient(options);
+                mlKit = new MlKitTextTranslator(translator);
+            }
+            setState(State.DOWNLOADING);
+            Metrics.Sample download = Metrics.global().start("translate.model.download");
+            DownloadConditions conditions = new DownloadConditions.Builder().requireWifi().build();
+            translator.downloadModelIfNeeded(conditions)
+                    .addOnSuccessListener(aVoid -> {
+                        download.stop();
+                        warmUp();
+                    })
+                    .addOnFailureListener(this::fail);
+        }
+
+        private void warmUp() {
+            if (state != State.DOWNLOADING) {
+                return;  // 그 사이 닫힘
+            }
+            setState(State.WARMING_UP);
+            Metrics.Sample sample = Metrics.global().start("translate.warmup");
+            timedTranslate(WARM_UP_TEXT, new Callback() {
+                @Override
+                public void onTranslated(String translatedText) {
+                    sample.stop();
+                    if (state == State.WARMING_UP) {
+                        setState(State.READY);
+                        List<Pending> ready = takeWaiting();
+                        for (Pending request : ready) {
+                            timedTranslate(request.text, request.callback);
+                        }
+                    }
+                }
+
+                @Override
+                public void onFailed(Exception e) {
+                    fail(e);
+                }
+            });
+        }
+
+        void translate(String text, Callback callback) {
+            switch (state) {
+                case READY:
+                    timedTranslate(text, callback);
+                    break;
+                case CLOSED:
+                    callback.onFailed(new IllegalStateException("translator closed"));
+                    break;
+                default:
+                    Metrics.global().increment("translate.waited");
+                    waiting.add(new Pending(text, callback));
+                    start();  // 실패 뒤라면 다시 받아 본다
+                    break;
+            }
+        }
+
+        private void timedTranslate(String text, Callback callback) {
+            boolean cold = !warm;
+            Metrics.Sample sample = Metrics.global().start(cold ? "translate.engine.cold" : "translate.engine.warm");
+            mlKit.translate(text, new Callback() {
+                @Override
+                public void onTranslated(String translatedText) {
+                    sample.stop();
+                    warm = true;
+                    callback.onTranslated(translatedText);
+                }
+
+                @Override
+                public void onFailed(Exception e) {
+                    callback.onFailed(e);
+                }
+            });
+        }
+
+        private void fail(Exception e) {
+            if (state == State.CLOSED) {
+                return;
+            }
+            Metrics.global().increment("translate.model.failed");
+            setState(State.FAILED);
+            for (Pending request : takeWaiting()) {
+                request.callback.onFailed(e);
+            }
+        }
+
+        private List<Pending> takeWaiting() {
+            List<Pending> taken = new ArrayList<>(waiting);
+            waiting.clear();
+            return taken;
+        }
+
+        private void setState(State state) {
+            this.state = state;
+            for (Listener listener : new ArrayList<>(listeners)) {  // 알림 안에서 해제해도 되게
+                listener.onStateChanged(state);
+            }
+        }
+
+        void close() {
+            listeners.clear();
+            setState(State.CLOSED);
+            for (Pending request : takeWaiting()) {
+                request.callback.onFailed(new IllegalStateException("translator closed"));
+            }
+            if (translator != null) {
+                translator.close();
+                translator = null;
+            }
+        }
+    }
+
+    private static final class Pending {
+        final String text;
+        final Callback callback;
+
+        Pending(String text, Callback callback) {
+            this.text = text;
+            this.callback = callback;
+        }
+    }
+}
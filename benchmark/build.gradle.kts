@@ -0,0 +1,29 @@
+plugins {
+    id("java")
+    id("me.champeau.jmh")
+}
+
+// :core 의 JMH 벤치마크
+// 실행: ./gradlew :benchmark:jmh  (결과: build/results/jmh/results.json)
+// 특정 벤치마크만: ./gradlew :benchmark:jmh -Pjmh.includes=SearchBenchmark
+java {
+    sourceCompatibility = JavaVersion.VERSION_1_8
+    targetCompatibility = JavaVersion.VERSION_1_8
+}
+
+dependencies {
+    implementation(project(":core"))
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    fork.set(1)
+    jvmArgs.add("-Xmx4g")  // 1M 항목 덱의 검색 색인
+    warmupIterations.set(3)
+    iterations.set(5)
+    profilers.add("gc")  // 할당률 (B/op)
+    resultFormat.set("JSON")
+    if (project.hasProperty("jmh.includes")) {
+        includes.add(project.property("jmh.includes").toString())
+    }
+}
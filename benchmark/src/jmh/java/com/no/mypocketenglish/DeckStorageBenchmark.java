@@ -0,0 +1,117 @@
+package com.no.mypocketenglish;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 덱 저장 / 로드 / 가져오기
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(java.util.concurrent.TimeUnit.MICROSECONDS)
+public class DeckStorageBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    public int size;
+
+    private List<SentencePair> deck;
+    private File dir;
+    private File deckFile;
+    private BinaryDeck mapped;
+    private byte[] tsv;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        deck = SyntheticDeck.create(size, 42);
+        dir = Files.createTempDirectory("deck-bench").toFile();
+        deckFile = new File(dir, SentenceJournalStore.BASE_FILE_NAME);
+        BinaryDeck.write(deckFile, deck);
+        mapped = BinaryDeck.open(deckFile);
+
+        SentenceRepository source = new SentenceRepository(new SentenceJournalStore(dir, Long.MAX_VALUE), Runnable::run);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new DeckTransfer(source).exportTo(out, DeckTransfer.Format.TSV, null);
+        tsv = out.toByteArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        deleteRecursively(dir);
+    }
+
+    // 가져오기 측정용 빈 저장소 (호출마다 새로 만들고 importTsv 만 사용)
+    @State(Scope.Thread)
+    public static class ImportTarget {
+        File dir;
+        SentenceRepository repository;
+
+        @Setup(Level.Invocation)
+        public void setUp() throws IOException {
+            dir = Files.createTempDirectory("import-bench").toFile();
+            repository = new SentenceRepository(new SentenceJournalStore(dir, Long.MAX_VALUE), Runnable::run);
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown() {
+            deleteRecursively(dir);
+        }
+    }
+
+    // 콜드 스타트: 파일을 열고 문제 하나를 읽는다 (덱 크기와 무관해야 함)
+    @Benchmark
+    public SentencePair openAndReadOne() throws IOException {
+        BinaryDeck opened = BinaryDeck.open(deckFile);
+        return opened.get(ThreadLocalRandom.current().nextInt(opened.size()));
+    }
+
+    @Benchmark
+    public SentencePair randomRead() {
+        return mapped.get(ThreadLocalRandom.current().nextInt(size));
+    }
+
+    // 목록/색인을 만들 때처럼 전체를 디코딩
+    @Benchmark
+    public void loadAll(Blackhole blackhole) throws IOException {
+        for (SentencePair entry : new SentenceJournalStore(dir, Long.MAX_VALUE).load()) {
+            blackhole.consume(entry);
+        }
+    }
+
+    // compaction 한 번에 드는 비용
+    @Benchmark
+    public long writeSnapshot() throws IOException {
+        File file = new File(dir, "snapshot.tmp");
+        BinaryDeck.write(file, deck);
+        return file.length();
+    }
+
+    @Benchmark
+    public DeckTransfer.Progress importTsv(ImportTarget target) throws IOException {
+        return new DeckTransfer(target.repository).importFrom(new ByteArrayInputStream(tsv), DeckTransfer.Format.TSV, null);
+    }
+
+    private static void deleteRecursively(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        file.delete();
+    }
+}
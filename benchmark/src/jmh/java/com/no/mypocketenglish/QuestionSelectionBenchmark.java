@@ -0,0 +1,64 @@
+package com.no.mypocketenglish;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+
+// 문제 하나를 고르는 비용 (덱 크기와 무관해야 함)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QuestionSelectionBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    public int size;
+
+    private List<SentencePair> deck;
+    private ReviewScheduler scheduler;
+    private final Random random = new Random(7);
+    private final int[] wrongAnswerIndices = new int[3];
+    private String correctAnswer;
+    private final IntPredicate isDifferentAnswer = index -> !deck.get(index).translation.equals(correctAnswer);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        deck = SyntheticDeck.create(size, 42);
+        scheduler = new ReviewScheduler(new Random(7));
+        scheduler.setDeck(deck);
+    }
+
+    // 문제 선택 + 채점 반영
+    @Benchmark
+    public ReviewScheduler.Item nextQuestion() {
+        ReviewScheduler.Item item = scheduler.next();
+        scheduler.answer(random.nextInt(4) != 0);
+        return item;
+    }
+
+    // 오답 보기 세 개
+    @Benchmark
+    public int sampleDistractors() {
+        int question = random.nextInt(size);
+        correctAnswer = deck.get(question).translation;
+        return DistractorSampler.sample(size, question, 3, wrongAnswerIndices, random, isDifferentAnswer);
+    }
+
+    // 비교용: 예전 방식 (덱 전체를 복사한 뒤 무작위 위치를 지움)
+    @Benchmark
+    public SentencePair copyAndRemoveBaseline() {
+        List<SentencePair> copy = new ArrayList<>(deck);
+        return copy.remove(random.nextInt(copy.size()));
+    }
+}
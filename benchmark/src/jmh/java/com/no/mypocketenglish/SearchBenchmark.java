@@ -0,0 +1,62 @@
+package com.no.mypocketenglish;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 문장 목록 검색 (색인 만들기, 한 번 검색, 이어서 입력하며 검색)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    public int size;
+
+    private List<SentencePair> deck;
+    private SentenceSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        deck = SyntheticDeck.create(size, 42);
+        index = new SentenceSearchIndex();
+        index.addAll(deck);
+    }
+
+    @Benchmark
+    public SentenceSearchIndex buildIndex() {
+        SentenceSearchIndex built = new SentenceSearchIndex();
+        built.addAll(deck);
+        return built;
+    }
+
+    @Benchmark
+    public List<SentencePair> searchWord() {
+        return index.search("station");
+    }
+
+    // 한 글자씩 입력할 때마다 검색 (이전 결과 안에서 다시 찾음)
+    @Benchmark
+    public int typeQuery() {
+        int total = 0;
+        String query = "where is";
+        for (int i = 1; i <= query.length(); i++) {
+            total += index.search(query.substring(0, i)).size();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public List<SentencePair> searchChoseong() {
+        return index.search("ㄱㄴ");
+    }
+}
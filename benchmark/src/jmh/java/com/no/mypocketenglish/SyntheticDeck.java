@@ -0,0 +1,53 @@
+package com.no.mypocketenglish;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// 벤치마크용 가짜 덱 (seed 가 같으면 항상 같은 덱)
+// 영어 단어 4~8 개짜리 문장과 한글 음절로 만든 2~4 어절짜리 뜻
+final class SyntheticDeck {
+
+    static final String[] WORDS = {
+            "the", "a", "how", "are", "you", "doing", "today", "I", "would", "like", "to", "order",
+            "coffee", "please", "where", "is", "station", "can", "help", "me", "with", "this", "thank",
+            "very", "much", "what", "time", "does", "train", "leave", "my", "friend", "lives", "in",
+            "seoul", "weather", "nice", "let's", "go", "home", "early", "book", "read", "yesterday"
+    };
+
+    private SyntheticDeck() {
+    }
+
+    static List<SentencePair> create(int size, long seed) {
+        Random random = new Random(seed);
+        List<SentencePair> deck = new ArrayList<>(size);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            text.setLength(0);
+            int words = 4 + random.nextInt(5);
+            for (int w = 0; w < words; w++) {
+                if (w > 0) {
+                    text.append(' ');
+                }
+                text.append(WORDS[random.nextInt(WORDS.length)]);
+            }
+            text.append(' ').append(i);  // 모두 다른 문장
+            String sentence = text.toString();
+
+            text.setLength(0);
+            int eojeol = 2 + random.nextInt(3);
+            for (int e = 0; e < eojeol; e++) {
+                if (e > 0) {
+                    text.append(' ');
+                }
+                int syllables = 1 + random.nextInt(4);
+                for (int s = 0; s < syllables; s++) {
+                    text.append((char) (0xAC00 + random.nextInt(11172)));
+                }
+            }
+            deck.add(new SentencePair(i + 1, sentence, text.toString(), 0,
+                    random.nextInt(5), random.nextInt(5)));
+        }
+        return deck;
+    }
+}
@@ -0,0 +1,17 @@
+plugins {
+    id("java-library")
+    id("java-test-fixtures")  // 저장 엔진 공통 테스트 (app 의 기기 테스트도 사용)
+}
+
+// 안드로이드에 의존하지 않는 로직 (저장소, 검색, 문제 선택, 가져오기/내보내기)
+// JVM 에서 바로 테스트하고 벤치마크할 수 있도록 app 과 분리
+java {
+    sourceCompatibility = JavaVersion.VERSION_1_8
+    targetCompatibility = JavaVersion.VERSION_1_8
+}
+
+dependencies {
+    implementation("com.google.code.gson:gson:2.8.8")
+    testImplementation("junit:junit:4.13.2")
+    testFixturesApi("junit:junit:4.13.2")
+}
@@ -0,0 +1,249 @@
+package com.no.mypocketenglish;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 뜻이 빈 문장 (가져오기로 문장만 들어온 것 등) 을 번역기로 채우는 백그라운드 작업
+// 문장을 id 순서로 한 페이지 (batchSize) 씩 읽어서 뜻이 빈 문장만 번역기에 보낸다.
+// 동시에 보내는 번역은 maxInFlight 개까지 (Semaphore). 다 차면 결과가 하나 돌아올 때까지 다음 문장을 보내지 않는다.
+// 한 페이지의 결과는 fillTranslations 한 번으로 저장하고 (트랜잭션 / journal 쓰기 한 번),
+// 그 페이지의 마지막 id 를 checkpoint 파일에 남긴다. 앱이 중간에 죽으면 다음 실행 때 그 다음부터 이어 간다.
+// 사용자가 멈춘 경우 (cancel) 는 checkpoint 에 멈춤 표시를 남겨서 저절로 이어 가지 않는다 (isInterrupted 가 false).
+// 다시 시작하면 멈춘 자리부터 이어 간다.
+// 번역에 실패한 문장은 뜻이 빈 채로 남고, 작업을 처음부터 다시 돌리면 다시 시도된다.
+// run() 은 끝날 때까지 돌아오지 않으므로 전용 스레드에서 부를 것.
+// 저장소 읽기/쓰기는 storageExecutor (I/O 스레드), 번역 요청은 translatorExecutor (ML Kit 은 메인 스레드) 에서 한다.
+public final class BatchTranslation {
+
+    public static final int DEFAULT_BATCH_SIZE = 50;
+    public static final int DEFAULT_MAX_IN_FLIGHT = 4;
+
+    public interface ProgressListener {
+        void onProgress(Progress progress);
+    }
+
+    // 진행 상황 (알릴 때마다 새 객체라 다른 스레드로 넘겨도 된다). 수는 이어 간 실행까지 합친 값.
+    public static final class Progress {
+        public final int total;       // 전체 문장 수
+        public final int scanned;     // 훑고 저장까지 끝낸 문장 수
+        public final int translated;  // 뜻을 채운 수
+        public final int failed;      // 번역에 실패한 수
+        public final long elapsedMs;  // 이번 실행 시간
+        public final int perMinute;   // 이번 실행의 번역 속도
+        public final boolean finished;
+
+        Progress(int total, int scanned, int translated, int failed, long elapsedMs, int perMinute, boolean finished) {
+            this.total = total;
+            this.scanned = scanned;
+            this.translated = translated;
+            this.failed = failed;
+            this.elapsedMs = elapsedMs;
+            this.perMinute = perMinute;
+            this.finished = finished;
+        }
+
+        @Override
+        public String toString() {
+            return scanned + "/" + total + " checked, " + translated + " translated, " + failed + " failed, "
+                    + perMinute + "/min";
+        }
+    }
+
+    private final SentenceRepository repository;
+    private final TextTranslator translator;
+    private final Executor translatorExecutor;
+    private final Executor storageExecutor;
+    private final File checkpointFile;
+    private final int batchSize;
+    private final int maxInFlight;
+    private volatile boolean cancelled = false;
+
+    public BatchTranslation(SentenceRepository repository, TextTranslator translator, Executor translatorExecutor,
+                            File checkpointFile) {
+        this(repository, translator, translatorExecutor, StorageExecutor.io(), checkpointFile,
+                DEFAULT_BATCH_SIZE, DEFAULT_MAX_IN_FLIGHT);
+    }
+
+    BatchTranslation(SentenceRepository repository, TextTranslator translator, Executor translatorExecutor,
+                     Executor storageExecutor, File checkpointFile, int batchSize, int maxInFlight) {
+        this.repository = repository;
+        this.translator = translator;
+        this.translatorExecutor = translatorExecutor;
+        this.storageExecutor = storageExecutor;
+        this.checkpointFile = checkpointFile;
+        this.batchSize = batchSize;
+        this.maxInFlight = maxInFlight;
+    }
+
+    // 끝나지 않은 작업이 있음 (앱이 도중에 죽었거나 취소됨)
+    public static boolean hasCheckpoint(File checkpointFile) {
+        return checkpointFile.exists();
+    }
+
+    // 도는 도중에 앱이 죽은 작업이 있음 (사용자가 멈춘 작업은 아님): 저절로 이어 가도 된다
+    public static boolean isInterrupted(File checkpointFile) throws IOException {
+        return checkpointFile.exists() && readCheckpoint(checkpointFile)[4] == 0;
+    }
+
+    // 보낸 번역이 돌아오면 그 페이지까지 저장하고 멈춘다 (checkpoint 는 멈춤 표시와 함께 남김)
+    public void cancel() {
+        cancelled = true;
+    }
+
+    // run() 전에 멈춤 (모델이 준비되기 전 등): 남은 checkpoint 에 멈춤 표시만 해서 저절로 이어 가지 않게 한다
+    public void markPaused() throws IOException {
+        if (checkpointFile.exists()) {
+            long[] checkpoint = readCheckpoint(checkpointFile);
+            writeCheckpoint(checkpoint[0], (int) checkpoint[1], (int) checkpoint[2], (int) checkpoint[3], true);
+        }
+    }
+
+    public Progress run(ProgressListener listener) throws IOException, InterruptedException {
+        long start = System.currentTimeMillis();
+        long[] checkpoint = readCheckpoint(checkpointFile);  // {마지막 id, 훑은 수, 채운 수, 실패 수, 멈춤}
+        long afterId = checkpoint[0];
+        int scanned = (int) checkpoint[1];
+        int translated = (int) checkpoint[2];
+        int failed = (int) checkpoint[3];
+        int startCount = translated + failed;
+        writeCheckpoint(afterId, scanned, translated, failed, false);  // 시작했다는 표시 (죽으면 다음에 이어 감)
+        int total = onStorage(repository::count);
+
+        Semaphore permits = new Semaphore(maxInFlight);
+        boolean finished = false;
+        while (!cancelled) {
+            long pageAfter = afterId;
+            List<SentencePair> page = onStorage(() -> repository.page(pageAfter, batchSize));
+            if (page.isEmpty()) {
+                finished = true;
+                break;
+            }
+            Map<Long, String> results = new ConcurrentHashMap<>();
+            AtomicInteger failures = new AtomicInteger();
+            boolean complete = true;
+            for (SentencePair entry : page) {
+                if (!entry.translation.isEmpty()) {
+                    continue;
+                }
+                permits.acquire();  // backpressure: maxInFlight 개가 나가 있으면 여기서 기다린다
+                if (cancelled) {
+                    permits.release();
+                    complete = false;
+                    break;
+                }
+                Metrics.Sample sample = Metrics.global().start("batch.translate");
+                translatorExecutor.execute(() -> translator.translate(entry.sentence, new TextTranslator.Callback() {
+                    @Override
+                    public void onTranslated(String translatedText) {
+                        sample.stop();
+                        String text = translatedText.trim();
+                        if (text.isEmpty()) {
+                            failures.incrementAndGet();
+                        } else {
+                            results.put(entry.id, text);
+                        }
+                        permits.release();
+                    }
+
+                    @Override
+                    public void onFailed(Exception e) {
+                        Metrics.global().increment("batch.translate.failed");
+                        failures.incrementAndGet();
+                        permits.release();
+                    }
+                }));
+            }
+            permits.acquire(maxInFlight);  // 이 페이지의 번역이 모두 돌아올 때까지
+            permits.release(maxInFlight);
+
+            if (!results.isEmpty()) {
+                translated += onStorage(() -> repository.fillTranslations(results)).size();
+            }
+            if (!complete) {
+                break;  // 다 못 본 페이지는 다음에 다시 훑는다 (채운 문장은 건너뛰고, 실패한 문장은 그때 다시 센다)
+            }
+            failed += failures.get();
+            afterId = page.get(page.size() - 1).id;
+            scanned += page.size();
+            writeCheckpoint(afterId, scanned, translated, failed, false);
+            if (listener != null) {
+                listener.onProgress(progress(total, scanned, translated, failed, startCount, start, false));
+            }
+        }
+        if (finished) {
+            Files.deleteIfExists(checkpointFile.toPath());
+        } else {
+            writeCheckpoint(afterId, scanned, translated, failed, true);  // 사용자가 멈춤
+        }
+        Progress result = progress(total, scanned, translated, failed, startCount, start, finished);
+        if (listener != null) {
+            listener.onProgress(result);
+        }
+        return result;
+    }
+
+    private static Progress progress(int total, int scanned, int translated, int failed, int startCount,
+                                     long start, boolean finished) {
+        long elapsedMs = System.currentTimeMillis() - start;
+        long done = translated + failed - startCount;
+        int perMinute = (int) (elapsedMs > 0 ? done * 60_000L / elapsedMs : done);
+        return new Progress(Math.max(total, scanned), scanned, translated, failed, elapsedMs, perMinute, finished);
+    }
+
+    // 저장소 작업을 I/O 스레드에서 실행하고 기다린다 (다른 쓰기와 순서가 섞이지 않게)
+    private <T> T onStorage(StorageExecutor.Task<T> task) throws IOException, InterruptedException {
+        FutureTask<T> future = new FutureTask<>(task::run);
+        storageExecutor.execute(future);
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    // 마지막 id, 훑은 수, 채운 수, 실패 수, 멈춤 (1: 사용자가 멈춤) 을 탭으로 구분한 한 줄.
+    // 없거나 깨졌으면 처음부터.
+    private static long[] readCheckpoint(File checkpointFile) throws IOException {
+        long[] values = new long[5];
+        if (!checkpointFile.exists()) {
+            return values;
+        }
+        String[] fields = new String(Files.readAllBytes(checkpointFile.toPath()), StandardCharsets.UTF_8)
+                .trim().split("\t");
+        try {
+            for (int i = 0; i < values.length && i < fields.length; i++) {
+                values[i] = Long.parseLong(fields[i]);
+            }
+        } catch (NumberFormatException e) {
+            return new long[5];
+        }
+        return values;
+    }
+
+    // 임시 파일에 쓰고 이름을 바꿔서, 쓰는 도중에 죽어도 이전 checkpoint 가 남게 한다
+    private void writeCheckpoint(long afterId, int scanned, int translated, int failed, boolean paused)
+            throws IOException {
+        File tmp = new File(checkpointFile.getPath() + ".tmp");
+        try (FileOutputStream fos = new FileOutputStream(tmp)) {
+            fos.write((afterId + "\t" + scanned + "\t" + translated + "\t" + failed + "\t" + (paused ? 1 : 0))
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+        if (!tmp.renameTo(checkpointFile)) {
+            throw new IOException("Failed to replace " + checkpointFile);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.no.mypocketenglish;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+// 문장 덱 이진 파일 (메모리 매핑으로 읽음)
+// [헤더] magic, 버전, 항목 수, 최대 id (지금까지 쓴 가장 큰 id, 지운 문장 포함: 다시 열어도 id 를 재사용하지 않게)
+// [오프셋 표] 항목마다 레코드 시작 위치 (int)
+// [레코드] id, 저장 시각, 맞힌 횟수, 틀린 횟수, 문장 (길이 + UTF-8), 뜻 (길이 + UTF-8)
+// 열 때는 헤더만 읽고, i 번째 항목은 오프셋 표로 바로 찾아서 그때 디코딩한다 (O(1)).
+public final class BinaryDeck {
+
+    private static final int MAGIC = 0x4D504544;  // "MPED"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 24;
+    private static final int ID_BYTES = 8;
+
+    private final ByteBuffer buffer;  // 읽기 전용 매핑 (절대 위치로만 읽음)
+    private final int count;
+    private final long maxId;
+
+    private BinaryDeck(ByteBuffer buffer, int count, long maxId) {
+        this.buffer = buffer;
+        this.count = count;
+        this.maxId = maxId;
+    }
+
+    public static BinaryDeck open(File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+             FileChannel channel = raf.getChannel()) {
+            long length = channel.size();
+            if (length < HEADER_BYTES) {
+                throw new IOException("Deck file too short: " + file);
+            }
+            // 매핑은 채널을 닫아도 유지된다
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException("Not a deck file: " + file);
+            }
+            int count = buffer.getInt(8);
+            if (count < 0 || HEADER_BYTES + (long) count * 4 > length) {
+                throw new IOException("Corrupt deck header: " + file);
+            }
+            return new BinaryDeck(buffer, count, buffer.getLong(16));
+        }
+    }
+
+    public static void write(File file, List<SentencePair> list) throws IOException {
+        write(file, list, 0);
+    }
+
+    // usedMaxId: 목록에는 없지만 이미 쓴 id (마지막 문장을 지운 경우 등). 목록의 최대 id 와 큰 쪽을 헤더에 쓴다.
+    public static void write(File file, List<SentencePair> list, long usedMaxId) throws IOException {
+        byte[][] texts = new byte[list.size() * 2][];
+        long maxId = usedMaxId;
+        int offset = HEADER_BYTES + list.size() * 4;
+        int[] offsets = new int[list.size()];
+        for (int i = 0; i < list.size(); i++) {
+            SentencePair entry = list.get(i);
+            texts[i * 2] = entry.sentence.getBytes(StandardCharsets.UTF_8);
+            texts[i * 2 + 1] = entry.translation.getBytes(StandardCharsets.UTF_8);
+            maxId = Math.max(maxId, entry.id);
+            offsets[i] = offset;
+            offset += ID_BYTES + 8 + 4 + 4 + 4 + texts[i * 2].length + 4 + texts[i * 2 + 1].length;
+        }
+        try (FileOutputStream fos = new FileOutputStream(file);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fos))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(list.size());
+            out.writeInt(0);
+            out.writeLong(maxId);
+            for (int value : offsets) {
+                out.writeInt(value);
+            }
+            for (int i = 0; i < list.size(); i++) {
+                SentencePair entry = list.get(i);
+                out.writeLong(entry.id);
+                out.writeLong(entry.createdAt);
+                out.writeInt(entry.correctCount);
+                out.writeInt(entry.wrongCount);
+                out.writeInt(texts[i * 2].length);
+                out.write(texts[i * 2]);
+                out.writeInt(texts[i * 2 + 1].length);
+                out.write(texts[i * 2 + 1]);
+            }
+            out.flush();
+            fos.getFD().sync();
+        }
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public long getMaxId() {
+        return maxId;
+    }
+
+    // i 번째 항목의 id (문자열은 디코딩하지 않음)
+    public long idAt(int index) {
+        return buffer.getLong(recordOffset(index));
+    }
+
+    public SentencePair get(int index) {
+        int position = recordOffset(index);
+        long id = buffer.getLong(position);
+        long createdAt = buffer.getLong(position + 8);
+        int correct = buffer.getInt(position + 16);
+        int wrong = buffer.getInt(position + 20);
+        position += 24;
+        int sentenceLength = buffer.getInt(position);
+        String sentence = decode(position + 4, sentenceLength);
+        position += 4 + sentenceLength;
+        String translation = decode(position + 4, buffer.getInt(position));
+        return new SentencePair(id, sentence, translation, createdAt, correct, wrong);
+    }
+
+    // 필요한 항목만 그때그때 디코딩하는 읽기 전용 목록
+    public List<SentencePair> asList() {
+        return new DeckList();
+    }
+
+    private int recordOffset(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("index " + index + ", size " + count);
+        }
+        return buffer.getInt(HEADER_BYTES + index * 4);
+    }
+
+    private String decode(int position, int length) {
+        byte[] bytes = new byte[length];
+        ByteBuffer view = buffer.duplicate();  // 여러 스레드에서 읽어도 position 이 섞이지 않게
+        view.position(position);
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private final class DeckList extends AbstractList<SentencePair> implements RandomAccess {
+        @Override
+        public SentencePair get(int index) {
+            return BinaryDeck.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.no.mypocketenglish;
+
+import java.util.concurrent.Executor;
+
+// TranslationCache 를 앞에 둔 번역기
+// 메모리에 있으면 바로, 디스크에 있으면 I/O 스레드에서 읽어서, 없으면 실제 번역기를 부른다.
+// 요청부터 결과까지의 시간은 "translate", 실제 번역기 호출은 "translate.engine" 타이머에 남는다 (실패한 호출 포함).
+// 실제 번역기를 부른 횟수는 "translate.engine.calls" 카운터 (타이머와 이름이 겹치지 않게).
+public class CachingTextTranslator implements TextTranslator {
+
+    private final TranslationCache cache;
+    private final String languagePair;
+    private final TextTranslator delegate;
+    private final Executor callbackExecutor;
+
+    public CachingTextTranslator(TranslationCache cache, String languagePair,
+                                 TextTranslator delegate, Executor callbackExecutor) {
+        this.cache = cache;
+        this.languagePair = languagePair;
+        this.delegate = delegate;
+        this.callbackExecutor = callbackExecutor;
+    }
+
+    @Override
+    public void translate(String text, Callback callback) {
+        final Metrics.Sample sample = Metrics.global().start("translate");
+        final String key = TranslationCache.key(languagePair, text);
+        String cached = cache.getFromMemory(key);
+        if (cached != null) {
+            Metrics.global().increment("translate.memoryHit");
+            sample.stop();
+            callback.onTranslated(cached);
+            return;
+        }
+        StorageExecutor.submit(callbackExecutor, () -> cache.getFromDisk(key),
+                new StorageExecutor.Callback<String>() {
+                    @Override
+                    public void onSuccess(String fromDisk) {
+                        if (fromDisk != null) {
+                            Metrics.global().increment("translate.diskHit");
+                            sample.stop();
+                            callback.onTranslated(fromDisk);
+                        } else {
+                            translateAndStore(key, text, sample, callback);
+                        }
+                    }
+
+                    @Override
+                    public void onFailure(Exception e) {
+                        e.printStackTrace();
+                        translateAndStore(key, text, sample, callback);
+                    }
+                });
+    }
+
+    private void translateAndStore(String key, String text, Metrics.Sample sample, Callback callback) {
+        Metrics.global().increment("translate.engine.calls");
+        final Metrics.Sample engineSample = Metrics.global().start("translate.engine");
+        delegate.translate(text, new Callback() {
+            @Override
+            public void onTranslated(String translatedText) {
+                try {
+                    cache.putInMemory(key, translatedText);
+                    StorageExecutor.submit(callbackExecutor, () -> {
+                        cache.persist(key, translatedText);
+                        return null;
+                    }, null);
+                } finally {
+                    engineSample.stop();
+                    sample.stop();
+                }
+                callback.onTranslated(translatedText);
+            }
+
+            @Override
+            public void onFailed(Exception e) {
+                try {
+                    Metrics.global().increment("translate.failed");
+                } finally {
+                    engineSample.stop();
+                    sample.stop();
+                }
+                callback.onFailed(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,527 @@
+package com.no.mypocketenglish;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+// 문장 덱 가져오기 / 내보내기 (TSV, CSV, JSON)
+// 내보낸 TSV 는 첫 줄에 TSV_HEADER 를 쓰고 탭/줄바꿈/역슬래시를 이스케이프한다. 가져올 때는 그 머리글이 있을 때만
+// 이스케이프를 풀고, 다른 TSV 는 글자 그대로 읽는다 (다른 앱이 만든 파일의 \t, \\ 가 바뀌지 않게).
+// 입력은 한 줄 (한 항목) 씩 읽어서 batchSize 개마다 저장소에 한 번에 쓴다. 메모리에는 한 묶음과
+// 중복 검사용 해시 (정규화한 영어 문장의 64비트 FNV-1a) 만 둔다.
+// 파일 읽기/파싱/쓰기는 호출한 스레드에서 하고, 저장소 읽기와 묶음 저장만 storageExecutor (I/O 스레드) 에 넣는다.
+// 한 묶음을 저장하는 동안 다음 묶음을 파싱한다 (저장을 기다리는 묶음은 하나까지).
+// 긴 작업이고 I/O 스레드의 결과를 기다리므로 전용 스레드에서 호출할 것 (I/O 스레드에서 부르면 안 됨).
+// 진행 상황은 묶음마다 알린다.
+public class DeckTransfer {
+
+    public static final int DEFAULT_BATCH_SIZE = 500;
+    // 이 앱이 내보낸 TSV 의 첫 줄
+    public static final String TSV_HEADER = "#mypocketenglish\tsentence\ttranslation";
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    public enum Format {
+        TSV, CSV, JSON;
+
+        // 파일 이름의 확장자로 고른다 (모르는 확장자는 TSV)
+        public static Format fromFileName(String name) {
+            String lower = name == null ? "" : name.toLowerCase(Locale.ROOT);
+            if (lower.endsWith(".csv")) {
+                return CSV;
+            } else if (lower.endsWith(".json")) {
+                return JSON;
+            }
+            return TSV;
+        }
+
+        public String extension() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    public interface ProgressListener {
+        void onProgress(Progress progress);
+    }
+
+    // 진행 상황 (알릴 때마다 새 객체라 다른 스레드로 넘겨도 된다)
+    public static final class Progress {
+        public final int rows;        // 읽거나 쓴 항목 수
+        public final int added;       // 가져오기: 새로 추가한 수
+        public final int duplicates;  // 가져오기: 이미 있어서 건너뛴 수
+        public final int skipped;     // 가져오기: 문장이 비어서 건너뛴 수
+        public final long bytes;      // 읽거나 쓴 바이트
+        public final long elapsedMs;
+
+        Progress(int rows, int added, int duplicates, int skipped, long bytes, long elapsedMs) {
+            this.rows = rows;
+            this.added = added;
+            this.duplicates = duplicates;
+            this.skipped = skipped;
+            this.bytes = bytes;
+            this.elapsedMs = elapsedMs;
+        }
+
+        public long rowsPerSecond() {
+            return elapsedMs > 0 ? rows * 1000L / elapsedMs : rows;
+        }
+
+        @Override
+        public String toString() {
+            return rows + " rows (" + added + " added, " + duplicates + " duplicates, " + skipped + " skipped), "
+                    + bytes / 1024 + " KB, " + rowsPerSecond() + " rows/s";
+        }
+    }
+
+    private final SentenceRepository repository;
+    private final int batchSize;
+    private final Executor storageExecutor;
+
+    public DeckTransfer(SentenceRepository repository) {
+        this(repository, DEFAULT_BATCH_SIZE);
+    }
+
+    public DeckTransfer(SentenceRepository repository, int batchSize) {
+        this(repository, batchSize, StorageExecutor.io());
+    }
+
+    DeckTransfer(SentenceRepository repository, int batchSize, Executor storageExecutor) {
+        this.repository = repository;
+        this.batchSize = batchSize;
+        this.storageExecutor = storageExecutor;
+    }
+
+    public Progress importFrom(InputStream in, Format format, ProgressListener listener) throws IOException {
+        long start = System.currentTimeMillis();
+        CountingInputStream counting = new CountingInputStream(in);
+        Reader reader = new BufferedReader(new InputStreamReader(counting, StandardCharsets.UTF_8));
+        RowReader rows = format == Format.JSON ? new JsonRowReader(reader)
+                : format == Format.CSV ? new CsvRowReader(reader) : new TsvRowReader(reader);
+
+        // 이미 있는 문장의 해시 (충돌 확률은 무시할 만큼 작다). 목록만 I/O 스레드에서 받고 해시는 여기서.
+        Set<Long> known = new HashSet<>();
+        for (SentencePair entry : onStorage(repository::getSentences)) {
+            known.add(dedupeKey(entry.sentence));
+        }
+
+        FutureTask<List<SentencePair>> writing = null;  // 저장 중인 묶음
+        List<SentencePair> batch = new ArrayList<>(batchSize);
+        String[] row = new String[2];
+        int read = 0;
+        int added = 0;
+        int duplicates = 0;
+        int skipped = 0;
+        while (rows.next(row)) {
+            read++;
+            String sentence = row[0] == null ? "" : row[0].trim();
+            String translation = row[1] == null ? "" : row[1].trim();
+            if (sentence.isEmpty()) {
+                skipped++;  // 문장이 없는 줄 (뜻만 있거나 빈 줄)
+            } else if (!known.add(dedupeKey(sentence))) {
+                duplicates++;
+            } else {
+                // 뜻이 없는 줄도 뜻을 비운 채 넣는다 (BatchTranslation 이 나중에 채움)
+                batch.add(new SentencePair(0, sentence, translation, 0, 0, 0));
+            }
+            if (batch.size() >= batchSize) {
+                added += await(writing);  // 앞 묶음이 아직 저장 중이면 기다린다
+                writing = write(batch);
+                batch = new ArrayList<>(batchSize);
+                report(listener, read, added, duplicates, skipped, counting.count, start);
+            }
+        }
+        added += await(writing);
+        if (!batch.isEmpty()) {
+            added += await(write(batch));
+        }
+        Progress result = new Progress(read, added, duplicates, skipped, counting.count,
+                System.currentTimeMillis() - start);
+        if (listener != null) {
+            listener.onProgress(result);
+        }
+        return result;
+    }
+
+    public Progress exportTo(OutputStream out, Format format, ProgressListener listener) throws IOException {
+        long start = System.currentTimeMillis();
+        CountingOutputStream counting = new CountingOutputStream(out);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(counting, StandardCharsets.UTF_8));
+        List<SentencePair> entries = onStorage(repository::getSentences);  // 읽기 전용 목록 (쓰는 동안 바뀌지 않음)
+        JsonWriter json = null;
+        StringBuilder line = new StringBuilder();
+        if (format == Format.JSON) {
+            json = new JsonWriter(writer);
+            json.setIndent(" ");
+            json.beginArray();
+        } else if (format == Format.CSV) {
+            writer.write("sentence,translation\r\n");
+        } else {
+            writer.write(TSV_HEADER + "\n");
+        }
+        int written = 0;
+        for (SentencePair entry : entries) {
+            if (json != null) {
+                json.beginObject();
+                json.name("sentence").value(entry.sentence);
+                json.name("translation").value(entry.translation);
+                json.endObject();
+            } else {
+                line.setLength(0);
+                if (format == Format.CSV) {
+                    appendCsv(line, entry.sentence);
+                    line.append(',');
+                    appendCsv(line, entry.translation);
+                    line.append("\r\n");
+                } else {
+                    SentenceJournalStore.appendEscaped(line, entry.sentence);
+                    line.append('\t');
+                    SentenceJournalStore.appendEscaped(line, entry.translation);
+                    line.append('\n');
+                }
+                writer.write(line.toString());
+            }
+            written++;
+            if (written % batchSize == 0) {
+                writer.flush();
+                report(listener, written, 0, 0, 0, counting.count, start);
+            }
+        }
+        if (json != null) {
+            json.endArray();
+            json.flush();
+        }
+        writer.flush();
+        Progress result = new Progress(written, 0, 0, 0, counting.count, System.currentTimeMillis() - start);
+        if (listener != null) {
+            listener.onProgress(result);
+        }
+        return result;
+    }
+
+    // 대소문자, 공백 차이는 같은 문장으로 본다 (앞뒤 공백 무시, 연속 공백은 하나로, NFC)
+    // 줄마다 불리므로 정규식이나 중간 문자열 없이 글자를 바로 FNV-1a 로 섞는다.
+    static long dedupeKey(String sentence) {
+        String text = Normalizer.isNormalized(sentence, Normalizer.Form.NFC) ? sentence
+                : Normalizer.normalize(sentence, Normalizer.Form.NFC);
+        long h = FNV_OFFSET;
+        boolean started = false;
+        boolean space = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = started;
+                continue;
+            }
+            if (space) {
+                h = (h ^ ' ') * FNV_PRIME;
+                space = false;
+            }
+            h = (h ^ Character.toLowerCase(c)) * FNV_PRIME;
+            started = true;
+        }
+        return h;
+    }
+
+    // 묶음 저장을 I/O 스레드에 넣는다 (기다리지 않음)
+    private FutureTask<List<SentencePair>> write(List<SentencePair> batch) {
+        FutureTask<List<SentencePair>> future = new FutureTask<>(() -> repository.addAll(batch));
+        storageExecutor.execute(future);
+        return future;
+    }
+
+    // 저장이 끝날 때까지 기다리고 추가된 수를 돌려준다 (null: 저장 중인 묶음 없음)
+    private static int await(FutureTask<List<SentencePair>> write) throws IOException {
+        return write == null ? 0 : get(write).size();
+    }
+
+    // 저장소 작업을 I/O 스레드에서 실행하고 기다린다 (다른 쓰기와 순서가 섞이지 않게)
+    private <T> T onStorage(StorageExecutor.Task<T> task) throws IOException {
+        FutureTask<T> future = new FutureTask<>(task::run);
+        storageExecutor.execute(future);
+        return get(future);
+    }
+
+    private static <T> T get(FutureTask<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while waiting for storage");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private static void report(ProgressListener listener, int rows, int added, int duplicates, int skipped,
+                               long bytes, long start) {
+        if (listener != null) {
+            listener.onProgress(new Progress(rows, added, duplicates, skipped, bytes,
+                    System.currentTimeMillis() - start));
+        }
+    }
+
+    private static void appendCsv(StringBuilder out, String value) {
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            out.append(value);
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.append('"');
+            }
+            out.append(c);
+        }
+        out.append('"');
+    }
+
+    // 한 항목씩 읽는다: row[0] = 문장, row[1] = 뜻. 끝이면 false.
+    private interface RowReader {
+        boolean next(String[] row) throws IOException;
+    }
+
+    // 문장<TAB>뜻. 첫 줄이 TSV_HEADER 이면 이 앱이 내보낸 파일이므로 이스케이프 (\t, \n, \\) 를 푼다.
+    private static final class TsvRowReader implements RowReader {
+        private final BufferedReader reader;
+        private boolean first = true;
+        private boolean escaped = false;
+
+        TsvRowReader(Reader reader) {
+            this.reader = new BufferedReader(reader);
+        }
+
+        @Override
+        public boolean next(String[] row) throws IOException {
+            String line = reader.readLine();
+            if (first) {
+                first = false;
+                if (TSV_HEADER.equals(line)) {
+                    escaped = true;
+                    line = reader.readLine();
+                }
+            }
+            if (line == null) {
+                return false;
+            }
+            if (escaped) {
+                List<String> fields = SentenceJournalStore.decodeFields(line);
+                row[0] = fields.get(0);
+                row[1] = fields.size() > 1 ? fields.get(1) : null;
+                return true;
+            }
+            int tab = line.indexOf('\t');
+            if (tab < 0) {
+                row[0] = line;
+                row[1] = null;
+            } else {
+                int end = line.indexOf('\t', tab + 1);
+                row[0] = line.substring(0, tab);
+                row[1] = line.substring(tab + 1, end < 0 ? line.length() : end);
+            }
+            return true;
+        }
+    }
+
+    // RFC 4180 (따옴표 안의 쉼표, 줄바꿈, "" 허용). 첫 줄이 sentence,translation 이면 머리글로 보고 건너뛴다.
+    private static final class CsvRowReader implements RowReader {
+        private final Reader reader;
+        private final StringBuilder field = new StringBuilder();
+        private final List<String> fields = new ArrayList<>(4);
+        private boolean first = true;
+        private int pending = -2;  // 미리 읽은 문자 (-2: 없음)
+
+        CsvRowReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean next(String[] row) throws IOException {
+            while (readRecord()) {
+                boolean header = first && fields.size() >= 2
+                        && fields.get(0).trim().equalsIgnoreCase("sentence")
+                        && fields.get(1).trim().equalsIgnoreCase("translation");
+                first = false;
+                if (header || (fields.size() == 1 && fields.get(0).isEmpty())) {
+                    continue;  // 머리글, 빈 줄
+                }
+                row[0] = fields.get(0);
+                row[1] = fields.size() > 1 ? fields.get(1) : null;
+                return true;
+            }
+            return false;
+        }
+
+        private boolean readRecord() throws IOException {
+            fields.clear();
+            field.setLength(0);
+            int c = read();
+            if (c == -1) {
+                return false;
+            }
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        break;  // 닫는 따옴표 없이 끝남
+                    } else if (c == '"') {
+                        int next = read();
+                        if (next == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            c = next;
+                            continue;
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == -1 || c == '\n') {
+                    break;
+                } else if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        pending = next;
+                    }
+                    break;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '"' && field.length() == 0) {
+                    quoted = true;
+                } else {
+                    field.append((char) c);
+                }
+                c = read();
+            }
+            fields.add(field.toString());
+            return true;
+        }
+
+        private int read() throws IOException {
+            if (pending != -2) {
+                int c = pending;
+                pending = -2;
+                return c;
+            }
+            return reader.read();
+        }
+    }
+
+    // [{"sentence": "...", "translation": "..."}, ...] (다른 필드는 무시)
+    private static final class JsonRowReader implements RowReader {
+        private final JsonReader reader;
+        private boolean started = false;
+
+        JsonRowReader(Reader reader) {
+            this.reader = new JsonReader(reader);
+        }
+
+        @Override
+        public boolean next(String[] row) throws IOException {
+            if (!started) {
+                reader.beginArray();
+                started = true;
+            }
+            if (!reader.hasNext()) {
+                reader.endArray();
+                return false;
+            }
+            row[0] = null;
+            row[1] = null;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if (reader.peek() == JsonToken.STRING && name.equals("sentence")) {
+                    row[0] = reader.nextString();
+                } else if (reader.peek() == JsonToken.STRING && name.equals("translation")) {
+                    row[1] = reader.nextString();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            return true;
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        long count = 0;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private final OutputStream out;
+        long count = 0;
+
+        CountingOutputStream(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) throws IOException {
+            out.write(buffer, offset, length);
+            count += length;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+    }
+}
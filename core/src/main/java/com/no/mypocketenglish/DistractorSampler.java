@@ -0,0 +1,72 @@
+package com.no.mypocketenglish;
+
+import java.util.Random;
+import java.util.function.IntPredicate;
+
+// 4지선다 오답 뽑기
+// 덱을 복사하지 않고 인덱스만 뽑는다. 덱 크기와 상관없이 O(k) (기대값).
+// 무작위로 몇 번 뽑아서 못 채우면 (조건에 맞는 항목이 드문 덱) 무작위 위치부터 차례로 훑는다.
+public final class DistractorSampler {
+
+    // 한 칸을 채우기 위해 무작위로 뽑아 보는 횟수
+    private static final int MAX_ATTEMPTS_PER_SLOT = 16;
+    // 그래도 못 채우면 차례로 훑어보는 최대 항목 수 (아주 큰 덱에서도 한 칸에 드는 시간을 묶어 둠)
+    private static final int MAX_SCAN_PER_SLOT = 4096;
+
+    private DistractorSampler() {
+    }
+
+    // [0, size) 에서 excludedIndex 가 아닌 서로 다른 인덱스를 최대 count 개 뽑아 out 에 채운다.
+    // accept 가 false 를 돌려주는 인덱스 (예: 정답과 같은 뜻) 는 쓰지 않는다. null 이면 모두 허용.
+    // accept 는 아직 뽑지 않은 인덱스에만 불리고, true 를 돌려준 인덱스는 반드시 쓴다
+    // (그래서 accept 안에서 고른 뜻을 기억해 두면 같은 뜻의 오답을 막을 수 있다).
+    // 채운 개수를 돌려준다 (덱이 작거나 조건에 맞는 항목이 모자라면 count 보다 적을 수 있음).
+    public static int sample(int size, int excludedIndex, int count, int[] out,
+                             Random random, IntPredicate accept) {
+        int available = excludedIndex >= 0 && excludedIndex < size ? size - 1 : size;
+        int target = Math.min(Math.min(count, out.length), available);
+        int filled = 0;
+        for (int slot = 0; slot < target; slot++) {
+            boolean placed = false;
+            for (int attempt = 0; attempt < MAX_ATTEMPTS_PER_SLOT && !placed; attempt++) {
+                // excludedIndex 를 건너뛰도록 size - 1 범위에서 뽑고 밀어준다
+                int candidate = random.nextInt(available);
+                if (excludedIndex >= 0 && candidate >= excludedIndex) {
+                    candidate++;
+                }
+                placed = tryPlace(candidate, out, filled, accept);
+            }
+            if (!placed) {
+                int start = random.nextInt(size);
+                int limit = Math.min(size, MAX_SCAN_PER_SLOT);
+                for (int i = 0; i < limit && !placed; i++) {
+                    int candidate = (start + i) % size;
+                    placed = candidate != excludedIndex && tryPlace(candidate, out, filled, accept);
+                }
+                if (!placed) {
+                    break;  // 훑어도 없으면 남은 칸도 채울 수 없다
+                }
+            }
+            filled++;
+        }
+        return filled;
+    }
+
+    // 쓸 수 있으면 out[filled] 에 넣고 true
+    private static boolean tryPlace(int candidate, int[] out, int filled, IntPredicate accept) {
+        if (contains(out, filled, candidate) || (accept != null && !accept.test(candidate))) {
+            return false;
+        }
+        out[filled] = candidate;
+        return true;
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,106 @@
+package com.no.mypocketenglish;
+
+// 한글 음절을 자모로 분해하는 유틸리티
+// 검색 색인에서 항목을 넣을 때 한 번만 분해하고, 검색어도 같은 방식으로 분해해서 비교한다.
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    // 초성 (호환용 자모)
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    // 중성: 겹모음은 입력 순서대로 나눈다 (ㅘ -> ㅗㅏ)
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    // 종성: 겹받침도 나눈다 (ㄺ -> ㄹㄱ), 0 번은 받침 없음
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 호환용 자모 중 겹자모 (입력 중인 검색어에 그대로 들어올 수 있음)
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_JAMO_SPLIT = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    private HangulJamo() {
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+    }
+
+    // 호환용 자음 (ㄱ ~ ㅎ)
+    public static boolean isConsonant(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    // 호환용 자모 (자음 + 모음)
+    public static boolean isJamo(char c) {
+        return c >= 'ㄱ' && c <= 'ㅣ';
+    }
+
+    // 음절과 겹자모를 기본 자모로 풀어 쓴다. 한글이 아닌 문자는 그대로 둔다.
+    // 예: "닭 한 마리" -> "ㄷㅏㄹㄱ ㅎㅏㄴ ㅁㅏㄹㅣ"
+    public static String decompose(CharSequence text) {
+        StringBuilder out = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BASE;
+                out.append(CHOSEONG[index / (JUNG_COUNT * JONG_COUNT)]);
+                out.append(JUNGSEONG[(index / JONG_COUNT) % JUNG_COUNT]);
+                out.append(JONGSEONG[index % JONG_COUNT]);
+            } else {
+                int compound = COMPOUND_JAMO.indexOf(c);
+                if (compound >= 0) {
+                    out.append(COMPOUND_JAMO_SPLIT[compound]);
+                } else {
+                    out.append(c);
+                }
+            }
+        }
+        return out.toString();
+    }
+
+    // 음절을 초성으로 바꾼다. 한글이 아닌 문자는 그대로 둔다.
+    // 예: "한국어 공부" -> "ㅎㄱㅇ ㄱㅂ"
+    public static String choseong(CharSequence text) {
+        StringBuilder out = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                out.append(CHOSEONG[(c - SYLLABLE_BASE) / (JUNG_COUNT * JONG_COUNT)]);
+            } else {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+
+    // 검색어가 초성으로만 이루어졌는지 (공백 허용, 자음이 하나 이상)
+    public static boolean isChoseongQuery(CharSequence query) {
+        boolean hasConsonant = false;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (isConsonant(c)) {
+                hasConsonant = true;
+            } else if (c != ' ') {
+                return false;
+            }
+        }
+        return hasConsonant;
+    }
+}
@@ -0,0 +1,265 @@
+package com.no.mypocketenglish;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 성능 지표 모음 (프로세스 전체에서 공유)
+// - 카운터: 이름별 누적 횟수
+// - 타이머: 이름별 지연 시간 히스토그램 (2의 거듭제곱 마이크로초 구간) + 호출당 할당 바이트 추정
+// 기록은 락 없이 원자 연산만 쓰므로 어느 스레드에서나 호출할 수 있다.
+// 할당량은 JVM 에서는 스레드별 할당 바이트, 안드로이드에서는 힙 사용량 차이로 추정한다
+// (다른 스레드의 할당과 GC 가 섞이므로 대략적인 값).
+public final class Metrics {
+
+    private static final Metrics global = new Metrics();
+
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final long createdAtMs = System.currentTimeMillis();
+
+    public static Metrics global() {
+        return global;
+    }
+
+    public void increment(String name) {
+        add(name, 1);
+    }
+
+    public void add(String name, long delta) {
+        AtomicLong counter = counters.get(name);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(name, key -> new AtomicLong());
+        }
+        counter.addAndGet(delta);
+    }
+
+    public long count(String name) {
+        AtomicLong counter = counters.get(name);
+        return counter != null ? counter.get() : 0;
+    }
+
+    public Timer timer(String name) {
+        Timer timer = timers.get(name);
+        if (timer == null) {
+            timer = timers.computeIfAbsent(name, Timer::new);
+        }
+        return timer;
+    }
+
+    // 측정 시작. 끝날 때 Sample.stop() 을 부른다.
+    public Sample start(String name) {
+        return new Sample(timer(name));
+    }
+
+    public void reset() {
+        counters.clear();
+        timers.clear();
+    }
+
+    // 현재 값의 JSON 스냅샷 (meta: 빌드 정보 등, null 가능)
+    public String toJson(Map<String, String> meta) {
+        StringWriter out = new StringWriter();
+        try (JsonWriter json = new JsonWriter(out)) {
+            json.setIndent("  ");
+            json.beginObject();
+            if (meta != null) {
+                json.name("meta").beginObject();
+                for (Map.Entry<String, String> entry : new TreeMap<>(meta).entrySet()) {
+                    json.name(entry.getKey()).value(entry.getValue());
+                }
+                json.endObject();
+            }
+            json.name("createdAtMs").value(createdAtMs);
+            json.name("snapshotAtMs").value(System.currentTimeMillis());
+            json.name("counters").beginObject();
+            for (Map.Entry<String, AtomicLong> entry : new TreeMap<>(counters).entrySet()) {
+                json.name(entry.getKey()).value(entry.getValue().get());
+            }
+            json.endObject();
+            json.name("timers").beginObject();
+            for (Map.Entry<String, Timer> entry : new TreeMap<>(timers).entrySet()) {
+                Timer timer = entry.getValue();
+                json.name(entry.getKey()).beginObject()
+                        .name("count").value(timer.getCount())
+                        .name("meanUs").value(timer.getMeanMicros())
+                        .name("p50Us").value(timer.percentileMicros(0.50))
+                        .name("p90Us").value(timer.percentileMicros(0.90))
+                        .name("p99Us").value(timer.percentileMicros(0.99))
+                        .name("maxUs").value(timer.getMaxMicros())
+                        .name("allocBytesPerOp").value(timer.getAllocatedBytesPerOp())
+                        .endObject();
+            }
+            json.endObject();
+            json.endObject();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);  // StringWriter 는 실패하지 않음
+        }
+        return out.toString();
+    }
+
+    // 오버레이용 짧은 요약 (타이머 하나당 한 줄)
+    public String summary() {
+        StringBuilder out = new StringBuilder();
+        for (Map.Entry<String, Timer> entry : new TreeMap<>(timers).entrySet()) {
+            Timer timer = entry.getValue();
+            out.append(entry.getKey()).append(" n=").append(timer.getCount())
+                    .append(" p50=").append(formatMicros(timer.percentileMicros(0.50)))
+                    .append(" p99=").append(formatMicros(timer.percentileMicros(0.99)))
+                    .append(" alloc=").append(timer.getAllocatedBytesPerOp() / 1024).append("KB\n");
+        }
+        for (Map.Entry<String, AtomicLong> entry : new TreeMap<>(counters).entrySet()) {
+            out.append(entry.getKey()).append(' ').append(entry.getValue().get()).append('\n');
+        }
+        return out.toString();
+    }
+
+    private static String formatMicros(long micros) {
+        return micros >= 10_000 ? micros / 1000 + "ms" : micros + "us";
+    }
+
+    public static final class Timer {
+        private static final int BUCKETS = 40;  // 2^39 us 이상은 마지막 구간
+
+        private final String name;
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);  // i: [2^i, 2^(i+1)) us
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLong allocatedBytes = new AtomicLong();
+        private final AtomicLong allocationSamples = new AtomicLong();
+
+        Timer(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        // allocatedBytes < 0 이면 할당량은 기록하지 않는다
+        public void record(long nanos, long allocatedBytes) {
+            long micros = Math.max(0, nanos / 1000);
+            int bucket = micros == 0 ? 0 : Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(micros));
+            buckets.incrementAndGet(bucket);
+            count.incrementAndGet();
+            totalNanos.addAndGet(nanos);
+            long max;
+            while (nanos > (max = maxNanos.get()) && !maxNanos.compareAndSet(max, nanos)) {
+                // 다른 스레드가 먼저 바꿨으면 다시 비교
+            }
+            if (allocatedBytes >= 0) {
+                this.allocatedBytes.addAndGet(allocatedBytes);
+                allocationSamples.incrementAndGet();
+            }
+        }
+
+        public long getCount() {
+            return count.get();
+        }
+
+        public long getMeanMicros() {
+            long n = count.get();
+            return n > 0 ? totalNanos.get() / n / 1000 : 0;
+        }
+
+        public long getMaxMicros() {
+            return maxNanos.get() / 1000;
+        }
+
+        public long getAllocatedBytesPerOp() {
+            long n = allocationSamples.get();
+            return n > 0 ? allocatedBytes.get() / n : 0;
+        }
+
+        // 해당 구간의 위쪽 경계 (실제 값보다 최대 두 배까지 클 수 있음)
+        public long percentileMicros(double percentile) {
+            long total = count.get();
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(total * percentile);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets.get(i);
+                if (seen >= rank) {
+                    return 1L << (i + 1);
+                }
+            }
+            return 1L << BUCKETS;
+        }
+    }
+
+    // 측정 한 번. 다른 스레드에서 끝나면 (콜백 등) 시간만 기록한다.
+    public static final class Sample {
+        private final Timer timer;
+        private final Thread thread = Thread.currentThread();
+        private final long startNanos;
+        private final long startAllocated;
+
+        Sample(Timer timer) {
+            this.timer = timer;
+            this.startAllocated = Allocation.currentThreadBytes();
+            this.startNanos = System.nanoTime();
+        }
+
+        // 걸린 시간 (ns)
+        public long stop() {
+            long nanos = System.nanoTime() - startNanos;
+            long allocated = -1;
+            if (startAllocated >= 0 && Thread.currentThread() == thread) {
+                long end = Allocation.currentThreadBytes();
+                allocated = end >= startAllocated ? end - startAllocated : -1;  // 그 사이 GC 면 버림
+            }
+            timer.record(nanos, allocated);
+            return nanos;
+        }
+    }
+
+    // 할당 바이트 읽기 (JVM: 스레드별 할당량, 그 밖: 힙 사용량)
+    static final class Allocation {
+        private static final Object threadBean;
+        private static final Method threadAllocatedBytes;
+
+        static {
+            Object bean = null;
+            Method method = null;
+            try {
+                // 안드로이드에는 java.lang.management 가 없으므로 리플렉션으로 찾는다
+                Class<?> factory = Class.forName("java.lang.management.ManagementFactory");
+                bean = factory.getMethod("getThreadMXBean").invoke(null);
+                Class<?> sunBean = Class.forName("com.sun.management.ThreadMXBean");
+                if (sunBean.isInstance(bean)) {
+                    method = sunBean.getMethod("getThreadAllocatedBytes", long.class);
+                    method.invoke(bean, Thread.currentThread().getId());
+                } else {
+                    bean = null;
+                }
+            } catch (Throwable e) {
+                bean = null;
+                method = null;
+            }
+            threadBean = bean;
+            threadAllocatedBytes = method;
+        }
+
+        static long currentThreadBytes() {
+            if (threadAllocatedBytes != null) {
+                try {
+                    return (Long) threadAllocatedBytes.invoke(threadBean, Thread.currentThread().getId());
+                } catch (ReflectiveOperationException e) {
+                    return -1;
+                }
+            }
+            Runtime runtime = Runtime.getRuntime();
+            return runtime.totalMemory() - runtime.freeMemory();
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.no.mypocketenglish;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 게임 문제를 미리 만들어 두는 작은 큐
+// 백그라운드 스레드가 문제 선택 (ReviewScheduler), 오답 뽑기, 선택지 섞기를 끝낸 문제를
+// capacity 개까지 채워 두고, 화면은 next() 로 꺼내 글자만 바꿔 끼운다.
+// 큐가 비어 있으면 (워커가 아직 못 채움) 호출한 스레드에서 바로 만든다.
+// 덱이 바뀌면 (setDeck) 워커가 새 덱을 훑어 문제 후보를 만든 뒤, 락 안에서 만들어 둔 문제를 상자 그대로
+// 스케줄러에 돌려주고 새 후보로 바꿔 끼운 다음 다시 채운다 (덱을 훑는 O(n) 은 화면 스레드에서 하지 않는다).
+// 테스트 다이얼로그는 선택지가 필요 없으므로 nextSentence() 로 스케줄러에서 문장만 꺼낸다 (만들어 둔 문제는 그대로).
+// 스케줄러는 이 객체의 락 안에서만 쓴다.
+public final class QuestionPrefetcher {
+
+    public static final int DEFAULT_CAPACITY = 3;
+
+    private static final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "question-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 바로 보여줄 수 있는 문제 하나
+    public static final class Question {
+        final ReviewScheduler.Item item;
+        private final SentencePair pair;
+        private final String[] options;  // 덱이 작아서 오답이 모자라면 null 칸
+        private final int correctIndex;
+
+        Question(ReviewScheduler.Item item, String[] options, int correctIndex) {
+            this.item = item;
+            this.pair = item.getPair();
+            this.options = options;
+            this.correctIndex = correctIndex;
+        }
+
+        public SentencePair getPair() {
+            return pair;
+        }
+
+        public int getOptionCount() {
+            return options.length;
+        }
+
+        public String getOption(int index) {
+            return options[index];
+        }
+
+        public int getCorrectIndex() {
+            return correctIndex;
+        }
+    }
+
+    private final ReviewScheduler scheduler;
+    private final Random random;
+    private final int optionCount;
+    private final int capacity;
+    private final Executor executor;
+    private final ArrayDeque<Question> ready;
+    private final int[] wrongIndices;
+    private final List<String> chosenOptions = new ArrayList<>();  // prepare() 안에서만 씀 (락 안)
+    private final AtomicBoolean refillScheduled = new AtomicBoolean();
+    private final Runnable refill = this::refill;
+    private List<SentencePair> deck = Collections.emptyList();
+    private Question current;        // 화면에 있는 문제 (채점 전)
+    private ReviewScheduler.Item lastQueued;  // 가장 최근에 줄 세운 문제 (다음 문제가 같지 않게)
+    private ReviewScheduler.Item lastTested;  // nextSentence() 가 마지막으로 돌려준 문장
+
+    public QuestionPrefetcher(Random random, int optionCount) {
+        this(new ReviewScheduler(random), random, optionCount, DEFAULT_CAPACITY, worker);
+    }
+
+    QuestionPrefetcher(ReviewScheduler scheduler, Random random, int optionCount, int capacity, Executor executor) {
+        this.scheduler = scheduler;
+        this.random = random;
+        this.optionCount = optionCount;
+        this.capacity = capacity;
+        this.executor = executor;
+        this.ready = new ArrayDeque<>(capacity);
+        this.wrongIndices = new int[optionCount - 1];
+    }
+
+    // 덱이 바뀌었을 때 (저장소 버전이 바뀔 때만) 호출. 만들어 둔 문제는 버린다.
+    // 바로 돌아오고, 새 덱은 워커에서 준비가 끝나면 쓰인다 (그 전까지 next() 는 이전 덱에서 꺼냄).
+    public void setDeck(List<SentencePair> deck) {
+        executor.execute(() -> install(deck));
+    }
+
+    // 워커 스레드. 덱은 락 밖에서 훑고, 락 안에서는 바꿔 끼우기만 한다.
+    private void install(List<SentencePair> deck) {
+        Metrics.Sample sample = Metrics.global().start("game.deck.prepare");
+        ReviewScheduler.Pool pool = ReviewScheduler.prepare(deck);
+        sample.stop();
+        synchronized (this) {
+            for (Question question : ready) {
+                scheduler.release(question.item);
+            }
+            ready.clear();
+            lastQueued = current != null ? current.item : null;
+            lastTested = null;
+            this.deck = pool.getDeck();
+            scheduler.setDeck(pool);
+        }
+        refill();
+    }
+
+    // 다음 문제 (덱이 비어 있으면 null). 채점하지 않은 이전 문제는 상자를 그대로 두고 다시 넣는다.
+    public Question next() {
+        Question question;
+        synchronized (this) {
+            Question previous = current;
+            question = ready.poll();
+            if (question != null) {
+                Metrics.global().increment("game.prefetch.hit");
+            } else {
+                Metrics.global().increment("game.prefetch.miss");
+                question = prepare();
+            }
+            if (previous != null) {
+                scheduler.release(previous.item);
+            }
+            if (question == null) {
+                question = prepare();  // 문제가 하나뿐
+            }
+            current = question;
+        }
+        scheduleRefill();
+        return question;
+    }
+
+    // 테스트 다이얼로그의 다음 문장 (덱이 비어 있으면 null). 선택지는 만들지 않고, 채점하지 않으므로
+    // 상자 그대로 바로 돌려놓는다. 게임용으로 만들어 둔 문제와 화면의 게임 문제는 건드리지 않는다.
+    public synchronized SentencePair nextSentence() {
+        ReviewScheduler.Item item = scheduler.take(lastTested);
+        if (item == null) {
+            // 덱이 작아서 모든 문장이 게임 큐나 화면에 나가 있음: 그중 하나를 보여 준다
+            Question queued = ready.isEmpty() ? current : ready.peek();
+            return queued != null ? queued.getPair() : null;
+        }
+        scheduler.release(item);
+        lastTested = item;
+        return item.getPair();
+    }
+
+    // 지금 문제의 채점 결과를 반영한다
+    public void answer(boolean correct) {
+        synchronized (this) {
+            if (current == null) {
+                return;
+            }
+            scheduler.answer(current.item, correct);
+            current = null;
+        }
+        scheduleRefill();
+    }
+
+    public synchronized int readyCount() {
+        return ready.size();
+    }
+
+    private void scheduleRefill() {
+        if (refillScheduled.compareAndSet(false, true)) {
+            executor.execute(refill);
+        }
+    }
+
+    // 워커 스레드. 문제 하나마다 락을 잡았다 놓아서 화면 쪽 next() 가 오래 기다리지 않게 한다.
+    private void refill() {
+        refillScheduled.set(false);
+        while (true) {
+            synchronized (this) {
+                if (ready.size() >= capacity) {
+                    return;
+                }
+                Question question = prepare();
+                if (question == null) {
+                    return;  // 남은 문제가 없음 (모두 화면이나 큐에 있음)
+                }
+                ready.add(question);
+            }
+        }
+    }
+
+    // 락 안에서 호출
+    private Question prepare() {
+        ReviewScheduler.Item item = scheduler.take(lastQueued);
+        if (item == null) {
+            return null;
+        }
+        lastQueued = item;
+        String answer = item.getPair().translation;
+        chosenOptions.clear();
+        chosenOptions.add(answer);
+        // 뜻이 비었거나 이미 고른 뜻 (정답 포함) 과 같으면 쓰지 않는다 (같은 글자의 버튼이 두 개 생기지 않게)
+        int wrongCount = DistractorSampler.sample(deck.size(), item.getIndex(), wrongIndices.length,
+                wrongIndices, random, index -> {
+                    String option = deck.get(index).translation;
+                    if (option.isEmpty() || chosenOptions.contains(option)) {
+                        return false;
+                    }
+                    chosenOptions.add(option);  // true 를 돌려준 후보는 반드시 쓰인다
+                    return true;
+                });
+
+        // 선택지에 랜덤하게 정답과 오답 배치
+        String[] options = new String[optionCount];
+        int correctIndex = random.nextInt(optionCount);
+        int wrongSlot = 0;
+        for (int i = 0; i < optionCount; i++) {
+            if (i == correctIndex) {
+                options[i] = answer;
+            } else if (wrongSlot < wrongCount) {
+                options[i] = deck.get(wrongIndices[wrongSlot++]).translation;
+            }
+        }
+        return new Question(item, options, correctIndex);
+    }
+}
@@ -0,0 +1,245 @@
+package com.no.mypocketenglish;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+// 다음 문제를 고르는 Leitner 방식 스케줄러
+// 문장마다 상자 번호 (box) 와 다시 나올 차례 (due) 를 두고, due 가 가장 빠른 문장을
+// 우선순위 큐에서 꺼낸다. 문제 하나를 고르는 비용은 O(log n) 이고 덱을 복사하지 않는다.
+// - 맞히면 상자가 올라가고 다음 등장까지 간격이 두 배가 된다 (2, 4, 8, ... 차례)
+// - 틀리면 0 번 상자로 돌아가 곧 다시 나온다
+// - 채점하지 않은 문제 (테스트 다이얼로그) 는 상자를 그대로 두고 다시 넣는다
+// 처음 보는 문장은 SentencePair 의 맞힘/틀림 기록으로 상자를 정한다.
+// 항목은 id 와 덱 위치만 들고 있고 문장은 필요할 때 덱에서 꺼내므로, 덱이 지연 목록 (BinaryDeck,
+// SentenceArena) 이면 문제 풀 전체가 SentencePair 로 힙에 올라오지 않는다.
+// 시간은 실제 시각이 아니라 문제를 고른 횟수 (turn) 로 센다.
+// 한 스레드에서만 쓰거나, 여러 스레드에서 쓸 때는 호출하는 쪽이 락으로 감쌀 것 (QuestionPrefetcher).
+public class ReviewScheduler {
+
+    static final int MAX_BOX = 6;
+    private static final int RETRY_INTERVAL = 2;  // 틀린 문제가 다시 나올 때까지의 차례
+
+    // 덱 안의 문장 하나의 복습 상태
+    public static final class Item {
+        final long id;
+        List<SentencePair> deck;
+        int index;          // 현재 덱 (목록) 에서의 위치
+        int box;
+        long due;
+        final int tieBreak; // due 가 같을 때 섞는 순서
+        boolean taken;      // 꺼내서 아직 채점/반납하지 않음 (큐 밖에 있음)
+
+        Item(long id, List<SentencePair> deck, int index, int box, long due, int tieBreak) {
+            this.id = id;
+            this.deck = deck;
+            this.index = index;
+            this.box = box;
+            this.due = due;
+            this.tieBreak = tieBreak;
+        }
+
+        // 덱에서 꺼낸다 (지연 목록이면 부를 때마다 새 객체)
+        public SentencePair getPair() {
+            return deck.get(index);
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public int getBox() {
+            return box;
+        }
+    }
+
+    private final Random random;
+    private final PriorityQueue<Item> queue = new PriorityQueue<>(16, (a, b) -> {
+        if (a.due != b.due) {
+            return Long.compare(a.due, b.due);
+        }
+        return Integer.compare(a.tieBreak, b.tieBreak);
+    });
+    private Map<Long, Item> itemsById = new HashMap<>();
+    private Item current;  // 꺼내서 보여주고 있는 문제 (채점 전까지 큐 밖에 있음)
+    private Item lastShown;
+    private long turn = 0;
+
+    public ReviewScheduler(Random random) {
+        this.random = random;
+    }
+
+    // 새 덱에서 읽어 둔 문제 후보 (id, 덱 위치, 처음 상자). 덱을 한 번 훑어야 해서 (지연 목록이면 항목마다 디코딩)
+    // 스케줄러 상태는 건드리지 않고 락 밖에서 만든다. 바꿔 끼우는 setDeck(Pool) 은 덱을 다시 읽지 않는다.
+    public static final class Pool {
+        final List<SentencePair> deck;
+        final long[] ids;
+        final int[] indices;
+        final int[] seedBoxes;
+        final int size;
+
+        private Pool(List<SentencePair> deck, long[] ids, int[] indices, int[] seedBoxes, int size) {
+            this.deck = deck;
+            this.ids = ids;
+            this.indices = indices;
+            this.seedBoxes = seedBoxes;
+            this.size = size;
+        }
+
+        public List<SentencePair> getDeck() {
+            return deck;
+        }
+    }
+
+    // 아무 스레드에서나 호출 가능
+    public static Pool prepare(List<SentencePair> deck) {
+        long[] ids = new long[deck.size()];
+        int[] indices = new int[deck.size()];
+        int[] seedBoxes = new int[deck.size()];
+        int size = 0;
+        for (int i = 0; i < deck.size(); i++) {
+            SentencePair pair = deck.get(i);  // id 와 기록만 보고 버린다
+            if (pair.translation.isEmpty()) {
+                continue;  // 뜻이 아직 없는 문장 (자동 번역 대기) 은 문제로 내지 않는다
+            }
+            ids[size] = pair.id;
+            indices[size] = i;
+            seedBoxes[size] = seedBox(pair);
+            size++;
+        }
+        return new Pool(deck, ids, indices, seedBoxes, size);
+    }
+
+    // 덱이 바뀌었을 때 (저장소 버전이 바뀔 때만) 호출. 이미 있던 문장의 복습 상태는 유지한다.
+    public void setDeck(List<SentencePair> deck) {
+        setDeck(prepare(deck));
+    }
+
+    public void setDeck(Pool pool) {
+        Map<Long, Item> next = new HashMap<>(pool.size * 2);
+        List<Item> queued = new ArrayList<>(pool.size);
+        for (int i = 0; i < pool.size; i++) {
+            long id = pool.ids[i];
+            Item item = itemsById.get(id);
+            if (item == null) {
+                int box = pool.seedBoxes[i];
+                item = new Item(id, pool.deck, pool.indices[i], box, turn + box, random.nextInt());
+            } else {
+                item.deck = pool.deck;
+                item.index = pool.indices[i];
+            }
+            next.put(id, item);
+            if (!item.taken) {
+                queued.add(item);
+            }
+        }
+        if (current != null && !next.containsKey(current.id)) {
+            current = null;  // 보고 있던 문제가 삭제됨
+        }
+        if (lastShown != null && !next.containsKey(lastShown.id)) {
+            lastShown = null;
+        }
+        itemsById = next;
+        queue.clear();
+        queue.addAll(queued);
+    }
+
+    public int size() {
+        return itemsById.size();
+    }
+
+    // 다음 문제 (덱이 비어 있으면 null). 채점하지 않은 이전 문제는 상자를 그대로 두고 다시 넣는다.
+    // 문제가 둘 이상이면 같은 문제가 연달아 나오지 않는다.
+    public Item next() {
+        turn++;
+        Item previous = current;
+        Item top = poll(lastShown);
+        if (previous != null) {
+            release(previous);
+        }
+        if (top == null) {
+            top = poll(null);  // 문제가 하나뿐
+        }
+        current = top;
+        lastShown = top;
+        return top;
+    }
+
+    // 지금 문제의 채점 결과를 반영한다
+    public void answer(boolean correct) {
+        if (current == null) {
+            return;
+        }
+        Item item = current;
+        current = null;
+        answer(item, correct);
+    }
+
+    // 문제 여러 개를 미리 꺼내 둘 때 (next() 와 섞어 쓰지 말 것)
+    // 채점할 때까지 큐 밖에 두고, 결과는 answer(item, correct) 나 release(item) 로 돌려준다.
+    // avoid 는 바로 앞에 보여줄 문제 (다른 문제가 있으면 연달아 나오지 않게 건너뛴다).
+    public Item take(Item avoid) {
+        turn++;
+        return poll(avoid);
+    }
+
+    // 채점하지 않은 문제를 상자 그대로 다시 넣는다
+    public void release(Item item) {
+        if (isLive(item)) {
+            reschedule(item, intervalFor(item.box));
+        }
+    }
+
+    public void answer(Item item, boolean correct) {
+        if (!isLive(item)) {
+            return;  // 그 사이 덱에서 삭제됨
+        }
+        if (correct) {
+            item.box = Math.min(item.box + 1, MAX_BOX);
+            reschedule(item, intervalFor(item.box));
+        } else {
+            item.box = 0;
+            reschedule(item, RETRY_INTERVAL);
+        }
+    }
+
+    private Item poll(Item avoid) {
+        Item top = queue.poll();
+        if (top != null && top == avoid && !queue.isEmpty()) {
+            // 방금 보여준 문제가 가장 급해도 한 번은 건너뛴다
+            Item second = queue.poll();
+            queue.add(top);
+            top = second;
+        }
+        if (top != null) {
+            top.taken = true;
+        }
+        return top;
+    }
+
+    private boolean isLive(Item item) {
+        return item.taken && itemsById.get(item.id) == item;
+    }
+
+    private void reschedule(Item item, int interval) {
+        item.taken = false;
+        item.due = turn + interval;
+        queue.add(item);
+    }
+
+    static int intervalFor(int box) {
+        return 2 << box;
+    }
+
+    // 기록이 없으면 0 번 상자, 맞힌 횟수가 틀린 횟수보다 많을수록 높은 상자
+    static int seedBox(SentencePair pair) {
+        return Math.max(0, Math.min(MAX_BOX, pair.correctCount - pair.wrongCount));
+    }
+}
@@ -0,0 +1,211 @@
+package com.no.mypocketenglish;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// 게임 점수 기록 (write-behind)
+// 답할 때마다 파일을 쓰지 않고 메모리에 모아 두었다가, 일정 시간이 지나거나
+// flush() 가 불리면 (onPause, 다이얼로그 닫힘) 한꺼번에 저장한다.
+// - 총점: total_score_data.txt
+// - 문장별 맞힘/틀림 횟수: 문장 저장소 (SentencePair 의 학습 기록)
+// - 게임 한 판 요약: score_sessions.log
+// 요약 값은 메모리에 계속 갱신되므로 점수 화면은 기록을 다시 읽지 않는다.
+public class ScoreLedger {
+
+    public static final String SESSION_FILE_NAME = "score_sessions.log";
+    public static final long FLUSH_DELAY_MS = 5000;
+
+    // 지연 flush 예약용 타이머 (실제 쓰기는 StorageExecutor 에서)
+    private static final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "score-ledger");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 게임 한 판의 집계
+    public static final class Session {
+        public final long startedAt;
+        private long endedAt;
+        private int correct;
+        private int wrong;
+        private int streak;
+        private int bestStreak;
+
+        Session(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        public int getAnswered() {
+            return correct + wrong;
+        }
+
+        public int getCorrect() {
+            return correct;
+        }
+
+        public int getWrong() {
+            return wrong;
+        }
+
+        public int getStreak() {
+            return streak;
+        }
+
+        public int getBestStreak() {
+            return bestStreak;
+        }
+
+        public long getEndedAt() {
+            return endedAt;
+        }
+    }
+
+    private final ScoreStore scoreStore;
+    private final SentenceRepository repository;
+    private final Executor callbackExecutor;
+    private final File sessionFile;
+    private final long flushDelayMs;
+
+    private int loadedTotalScore = 0;       // 파일에 있던 총점 (I/O 스레드에서 설정)
+    private int correctSinceStart = 0;      // 이 인스턴스가 만들어진 뒤 맞힌 수
+    private boolean totalDirty = false;
+    private Map<Long, int[]> pendingStats = new HashMap<>();  // 문장 id -> {맞힘, 틀림}
+    private List<Session> pendingSessions = new ArrayList<>();
+    private Session currentSession;
+    private Session lastSession;
+    private ScheduledFuture<?> scheduledFlush;
+
+    public ScoreLedger(File filesDir, ScoreStore scoreStore, SentenceRepository repository, Executor callbackExecutor) {
+        this(filesDir, scoreStore, repository, callbackExecutor, FLUSH_DELAY_MS);
+    }
+
+    public ScoreLedger(File filesDir, ScoreStore scoreStore, SentenceRepository repository,
+                       Executor callbackExecutor, long flushDelayMs) {
+        this.scoreStore = scoreStore;
+        this.repository = repository;
+        this.callbackExecutor = callbackExecutor;
+        this.sessionFile = new File(filesDir, SESSION_FILE_NAME);
+        this.flushDelayMs = flushDelayMs;
+    }
+
+    // 저장된 총점을 I/O 스레드에서 읽는다. 이후의 flush 는 항상 이 다음에 실행된다.
+    public void loadAsync(StorageExecutor.Callback<Integer> callback) {
+        StorageExecutor.submit(callbackExecutor, this::load, callback);
+    }
+
+    // I/O 스레드에서 호출
+    public int load() throws IOException {
+        int loaded = scoreStore.load();
+        synchronized (this) {
+            loadedTotalScore = loaded;
+            return loadedTotalScore + correctSinceStart;
+        }
+    }
+
+    public synchronized int getTotalScore() {
+        return loadedTotalScore + correctSinceStart;
+    }
+
+    public synchronized void startSession() {
+        endSession();
+        currentSession = new Session(System.currentTimeMillis());
+    }
+
+    public synchronized void endSession() {
+        if (currentSession == null) {
+            return;
+        }
+        currentSession.endedAt = System.currentTimeMillis();
+        if (currentSession.getAnswered() > 0) {
+            pendingSessions.add(currentSession);
+            lastSession = currentSession;
+        }
+        currentSession = null;
+    }
+
+    // 진행 중인 판, 없으면 마지막으로 끝난 판 (없으면 null)
+    public synchronized Session getSessionSummary() {
+        return currentSession != null && currentSession.getAnswered() > 0 ? currentSession : lastSession;
+    }
+
+    public synchronized void record(long sentenceId, boolean correct) {
+        int[] counts = pendingStats.get(sentenceId);
+        if (counts == null) {
+            counts = new int[2];
+            pendingStats.put(sentenceId, counts);
+        }
+        counts[correct ? 0 : 1]++;
+        if (correct) {
+            correctSinceStart++;
+            totalDirty = true;
+        }
+        if (currentSession != null) {
+            if (correct) {
+                currentSession.correct++;
+                currentSession.streak++;
+                currentSession.bestStreak = Math.max(currentSession.bestStreak, currentSession.streak);
+            } else {
+                currentSession.wrong++;
+                currentSession.streak = 0;
+            }
+        }
+        if (scheduledFlush == null) {
+            scheduledFlush = timer.schedule(this::flush, flushDelayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // 모아 둔 기록을 I/O 스레드에서 한꺼번에 저장
+    public synchronized void flush() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        if (!totalDirty && pendingStats.isEmpty() && pendingSessions.isEmpty()) {
+            return;
+        }
+        final boolean writeTotal = totalDirty;
+        final Map<Long, int[]> stats = pendingStats;
+        final List<Session> sessions = pendingSessions;
+        totalDirty = false;
+        pendingStats = new HashMap<>();
+        pendingSessions = new ArrayList<>();
+
+        StorageExecutor.submit(callbackExecutor, () -> {
+            if (writeTotal) {
+                scoreStore.save(getTotalScore());
+            }
+            if (!stats.isEmpty()) {
+                repository.addStats(stats);
+            }
+            if (!sessions.isEmpty()) {
+                appendSessions(sessions);
+            }
+            return null;
+        }, null);
+    }
+
+    private void appendSessions(List<Session> sessions) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (Session session : sessions) {
+            lines.append(session.startedAt).append('\t')
+                    .append(session.endedAt).append('\t')
+                    .append(session.correct).append('\t')
+                    .append(session.wrong).append('\t')
+                    .append(session.bestStreak).append('\n');
+        }
+        try (FileOutputStream fos = new FileOutputStream(sessionFile, true)) {
+            fos.write(lines.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.no.mypocketenglish;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+// 총점 파일 (total_score_data.txt) 읽기/쓰기 (ScoreLedger 가 I/O 스레드에서 부름)
+public class ScoreStore {
+
+    public static final String SCORE_FILE_NAME = "total_score_data.txt";
+
+    private final File scoreFile;
+
+    public ScoreStore(File filesDir) {
+        this.scoreFile = new File(filesDir, SCORE_FILE_NAME);
+    }
+
+    int load() throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new FileInputStream(scoreFile), StandardCharsets.UTF_8))) {
+            String line = reader.readLine();
+            return line != null ? Integer.parseInt(line.trim()) : 0;
+        } catch (FileNotFoundException | NumberFormatException e) {
+            return 0;  // 아직 저장된 점수가 없음
+        }
+    }
+
+    void save(int totalScore) throws IOException {
+        try (FileOutputStream fos = new FileOutputStream(scoreFile)) {
+            fos.write(String.valueOf(totalScore).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.no.mypocketenglish;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+// 메모리에 들고 있는 읽기 전용 덱 (SQLite 처럼 파일을 매핑할 수 없는 저장소용)
+// 글자는 TextArena 하나에 (i 번째 문장은 slot 2i, 뜻은 2i+1), 나머지는 항목별 기본형 배열에 둔다.
+// 항목마다 SentencePair 와 String 두 개 (객체 헤더 + 배열 헤더) 를 두지 않으므로 큰 덱에서 힙이 크게 준다.
+// 목록으로 쓸 때는 읽히는 항목만 그때그때 만든다 (BinaryDeck.asList 와 같은 방식).
+public final class SentenceArena {
+
+    private final TextArena text;
+    private final long[] ids;
+    private final long[] createdAt;
+    private final int[] correctCounts;
+    private final int[] wrongCounts;
+    private final int size;
+
+    private SentenceArena(Builder builder) {
+        this.text = builder.text;
+        this.size = builder.size;
+        this.ids = Arrays.copyOf(builder.ids, size);
+        this.createdAt = Arrays.copyOf(builder.createdAt, size);
+        this.correctCounts = Arrays.copyOf(builder.correctCounts, size);
+        this.wrongCounts = Arrays.copyOf(builder.wrongCounts, size);
+    }
+
+    public static SentenceArena of(List<SentencePair> entries) {
+        Builder builder = new Builder(entries.size(), 0);
+        for (SentencePair entry : entries) {
+            builder.add(entry.id, entry.sentence, entry.translation, entry.createdAt,
+                    entry.correctCount, entry.wrongCount);
+        }
+        return builder.build();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long idAt(int index) {
+        return ids[checkIndex(index)];
+    }
+
+    public SentencePair get(int index) {
+        checkIndex(index);
+        return new SentencePair(ids[index], text.get(2 * index), text.get(2 * index + 1), createdAt[index],
+                correctCounts[index], wrongCounts[index]);
+    }
+
+    // 목록으로 보기 (수정 불가, 항목은 읽을 때마다 새로 만든다)
+    public List<SentencePair> asList() {
+        return new ArenaList();
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + ", size " + size);
+        }
+        return index;
+    }
+
+    private final class ArenaList extends AbstractList<SentencePair> implements RandomAccess {
+        @Override
+        public SentencePair get(int index) {
+            return SentenceArena.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    // 한 번에 하나씩 붙여서 만든다 (커서를 읽으면서 등). build() 뒤에는 더 붙이지 말 것.
+    public static final class Builder {
+        private final TextArena text;
+        private long[] ids;
+        private long[] createdAt;
+        private int[] correctCounts;
+        private int[] wrongCounts;
+        private int size = 0;
+
+        public Builder(int expectedSize, int expectedChars) {
+            int capacity = Math.max(4, expectedSize);
+            text = new TextArena(capacity * 2, expectedChars > 0 ? expectedChars : capacity * 48);
+            ids = new long[capacity];
+            createdAt = new long[capacity];
+            correctCounts = new int[capacity];
+            wrongCounts = new int[capacity];
+        }
+
+        public Builder add(long id, String sentence, String translation, long created, int correct, int wrong) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                createdAt = Arrays.copyOf(createdAt, capacity);
+                correctCounts = Arrays.copyOf(correctCounts, capacity);
+                wrongCounts = Arrays.copyOf(wrongCounts, capacity);
+            }
+            text.set(2 * size, sentence);
+            text.set(2 * size + 1, translation);
+            ids[size] = id;
+            createdAt[size] = created;
+            correctCounts[size] = correct;
+            wrongCounts[size] = wrong;
+            size++;
+            return this;
+        }
+
+        public SentenceArena build() {
+            return new SentenceArena(this);
+        }
+    }
+}
@@ -0,0 +1,679 @@
+package com.no.mypocketenglish;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 문장 저장소: 기본(base) 파일 + 추가 전용(journal) 파일
+// 추가/수정/삭제는 journal 에 한 줄씩 덧붙이고, 로드 시 base 위에 journal 을 재생한다.
+// journal 이 일정 크기를 넘으면 백그라운드에서 base 를 다시 쓰고 journal 을 비운다 (compaction).
+// base 는 메모리 매핑하는 이진 덱 (BinaryDeck) 이고, 펼치지 않는다. journal 의 기록은 그 위에 얹는 작은 덮어쓰기 층
+// (바뀐 base 항목, 지운 base 항목, base 뒤에 추가된 항목) 에만 반영하므로, 메모리에는 journal 크기만큼만 올라온다.
+// load() 는 이 둘을 합쳐 보여주는 읽기 전용 목록이라 항목은 읽힐 때만 디코딩된다. 지운 항목은 위치 배열 (int[]) 로
+// 건너뛰므로 덱을 복사하지 않고, load() 마다 복사하는 것은 덮어쓰기 층뿐이다.
+// 덮어쓰기 층은 SentenceArena 에 두지 않고 SentencePair 로 들고 있다: compaction 이 journal 크기
+// (DEFAULT_COMPACT_THRESHOLD_BYTES, 수백 문장) 로 묶어 두므로 덱 크기와 상관없고, 다른 스레드가 읽는 스냅샷과
+// 배열을 같이 쓰지 않아도 된다. 큰 덱의 글자는 모두 매핑한 base 파일에 있다.
+// 저장 순서가 곧 id 순서다 (id 는 늘어나기만 하고, 수정은 자리를 바꾸지 않는다).
+public class SentenceJournalStore implements SentenceStorage {
+
+    // 예전 버전에서 쓰던 평문 파일 (문장///번역 한 줄씩)
+    public static final String LEGACY_FILE_NAME = "sentence_data.txt";
+    public static final String BASE_FILE_NAME = "sentence_store.deck";
+    // 이전 버전의 텍스트 base (첫 로드 때 이진 덱으로 바꾼다)
+    public static final String TEXT_BASE_FILE_NAME = "sentence_store.txt";
+    public static final String JOURNAL_FILE_NAME = "sentence_store.journal";
+
+    // journal 이 이 크기를 넘으면 compaction 실행
+    public static final long DEFAULT_COMPACT_THRESHOLD_BYTES = 64 * 1024;
+
+    private static final char OP_ADD = 'A';
+    private static final char OP_UPDATE = 'U';
+    private static final char OP_DELETE = 'D';
+
+    private static final Map<String, SentenceJournalStore> instances = new HashMap<>();
+
+    // compaction 전용 스레드 (모든 저장소가 공유)
+    private static final ExecutorService compactor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "sentence-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final File legacyFile;
+    private final File baseFile;
+    private final File textBaseFile;
+    private final File journalFile;
+    private final long compactThresholdBytes;
+
+    private BinaryDeck base;  // null: 아직 base 파일이 없음
+    // base 위의 덮어쓰기 층 (compaction 이 끝나면 비워지고 새 base 로 넘어간다)
+    private final BitSet deleted = new BitSet();                         // 지운 base 항목 (위치)
+    private int deletedCount = 0;
+    private final Map<Integer, SentencePair> overrides = new HashMap<>();  // 바뀐 base 항목 (위치 -> 새 값)
+    private final ArrayList<SentencePair> tail = new ArrayList<>();       // base 뒤에 추가된 항목 (id 순서)
+    private int[] liveBase;            // 지우지 않은 base 위치 (지울 때마다 다시 만듦, null: 아직 안 만듦)
+    private List<SentencePair> view;   // load() 결과 (다음 쓰기 전까지 재사용)
+    private long nextId = 1;
+    private boolean loaded = false;
+    private boolean compacting = false;
+
+    // 같은 디렉토리는 프로세스 안에서 하나의 저장소만 쓰도록 공유
+    public static SentenceJournalStore forDirectory(File dir) {
+        synchronized (instances) {
+            String key = dir.getAbsolutePath();
+            SentenceJournalStore store = instances.get(key);
+            if (store == null) {
+                store = new SentenceJournalStore(dir, DEFAULT_COMPACT_THRESHOLD_BYTES);
+                instances.put(key, store);
+            }
+            return store;
+        }
+    }
+
+    public SentenceJournalStore(File dir, long compactThresholdBytes) {
+        this.legacyFile = new File(dir, LEGACY_FILE_NAME);
+        this.baseFile = new File(dir, BASE_FILE_NAME);
+        this.textBaseFile = new File(dir, TEXT_BASE_FILE_NAME);
+        this.journalFile = new File(dir, JOURNAL_FILE_NAME);
+        this.compactThresholdBytes = compactThresholdBytes;
+    }
+
+    // 현재 문장 목록 (저장 순서대로, 수정 불가). 덮어쓰기 층이 비어 있으면 덱을 그대로 감싼다.
+    @Override
+    public synchronized List<SentencePair> load() throws IOException {
+        ensureLoaded();
+        if (view == null) {
+            if (deletedCount == 0 && overrides.isEmpty() && tail.isEmpty()) {
+                view = base != null ? base.asList() : Collections.<SentencePair>emptyList();
+            } else {
+                // 덮어쓰기 층만 복사한다 (journal 크기만큼). base 는 바뀌지 않으므로 같이 쓴다.
+                view = new OverlayList(base, liveBase(), new HashMap<>(overrides), new ArrayList<>(tail));
+            }
+        }
+        return view;
+    }
+
+    @Override
+    public synchronized SentencePair add(String sentence, String translation) throws IOException {
+        ensureLoaded();
+        SentencePair entry = new SentencePair(nextId++, sentence, translation, System.currentTimeMillis(), 0, 0);
+        appendRecord(OP_ADD, entry);
+        apply(entry);
+        changed();
+        return entry;
+    }
+
+    // 여러 문장을 한 번에 추가한다 (journal 에 한 번에 씀). id 와 저장 시각은 새로 붙인다.
+    @Override
+    public synchronized List<SentencePair> addAll(List<SentencePair> drafts) throws IOException {
+        ensureLoaded();
+        long now = System.currentTimeMillis();
+        List<SentencePair> added = new ArrayList<>(drafts.size());
+        StringBuilder lines = new StringBuilder();
+        for (SentencePair draft : drafts) {
+            SentencePair entry = new SentencePair(nextId++, draft.sentence, draft.translation, now,
+                    draft.correctCount, draft.wrongCount);
+            lines.append(OP_ADD).append('\t');
+            appendEntry(lines, entry);
+            lines.append('\n');
+            added.add(entry);
+        }
+        if (added.isEmpty()) {
+            return added;
+        }
+        appendToJournal(lines);
+        for (SentencePair entry : added) {
+            apply(entry);
+        }
+        changed();
+        return added;
+    }
+
+    // 문장/뜻만 바꾼다 (저장 시각과 학습 기록은 유지)
+    @Override
+    public synchronized SentencePair update(long id, String sentence, String translation) throws IOException {
+        ensureLoaded();
+        SentencePair current = find(id);
+        if (current == null) {
+            return null;
+        }
+        return replace(current.withText(sentence, translation));
+    }
+
+    // 같은 id 의 항목을 통째로 바꾼다 (학습 기록 갱신 등)
+    public synchronized SentencePair replace(SentencePair entry) throws IOException {
+        ensureLoaded();
+        if (find(entry.id) == null) {
+            return null;
+        }
+        appendRecord(OP_UPDATE, entry);
+        apply(entry);
+        changed();
+        return entry;
+    }
+
+    // 맞힘/틀림 횟수를 한꺼번에 더한다 (id -> {맞힌 수, 틀린 수}). journal 에 한 번에 쓴다.
+    @Override
+    public synchronized List<SentencePair> addStats(Map<Long, int[]> deltas) throws IOException {
+        ensureLoaded();
+        List<SentencePair> updated = new ArrayList<>(deltas.size());
+        StringBuilder lines = new StringBuilder();
+        for (Map.Entry<Long, int[]> delta : deltas.entrySet()) {
+            SentencePair current = find(delta.getKey());
+            if (current == null) {
+                continue;  // 그 사이에 삭제된 문장
+            }
+            SentencePair entry = current.withStats(current.correctCount + delta.getValue()[0],
+                    current.wrongCount + delta.getValue()[1]);
+            lines.append(OP_UPDATE).append('\t');
+            appendEntry(lines, entry);
+            lines.append('\n');
+            updated.add(entry);
+        }
+        return applyUpdates(lines, updated);
+    }
+
+    // 뜻이 비어 있는 문장만 채운다. journal 에 한 번에 쓴다.
+    @Override
+    public synchronized List<SentencePair> fillTranslations(Map<Long, String> translations) throws IOException {
+        ensureLoaded();
+        List<SentencePair> updated = new ArrayList<>(translations.size());
+        StringBuilder lines = new StringBuilder();
+        for (Map.Entry<Long, String> translation : translations.entrySet()) {
+            SentencePair current = find(translation.getKey());
+            if (current == null || !current.translation.isEmpty()) {
+                continue;
+            }
+            SentencePair entry = current.withText(current.sentence, translation.getValue());
+            lines.append(OP_UPDATE).append('\t');
+            appendEntry(lines, entry);
+            lines.append('\n');
+            updated.add(entry);
+        }
+        return applyUpdates(lines, updated);
+    }
+
+    @Override
+    public synchronized boolean delete(long id) throws IOException {
+        ensureLoaded();
+        if (find(id) == null) {
+            return false;
+        }
+        appendRecord(OP_DELETE, new SentencePair(id, "", "", 0, 0, 0));
+        remove(id);
+        changed();
+        return true;
+    }
+
+    @Override
+    public synchronized int count() throws IOException {
+        ensureLoaded();
+        return baseSize() - deletedCount + tail.size();
+    }
+
+    // base 와 추가된 항목 모두 id 로 이분 탐색해서 시작하므로 O(log n + limit) (깊은 페이지도 앞을 훑지 않음).
+    // base 에서 지운 항목은 건너뛴다.
+    @Override
+    public synchronized List<SentencePair> page(long afterId, int limit) throws IOException {
+        ensureLoaded();
+        List<SentencePair> page = new ArrayList<>(Math.min(limit, 1024));
+        if (base != null) {
+            for (int i = deleted.nextClearBit(firstIndexAfter(base, afterId));
+                 i < base.size() && page.size() < limit; i = deleted.nextClearBit(i + 1)) {
+                SentencePair override = overrides.get(i);
+                page.add(override != null ? override : base.get(i));
+            }
+        }
+        for (int i = firstTailIndexAfter(afterId); i < tail.size() && page.size() < limit; i++) {
+            page.add(tail.get(i));
+        }
+        return page;
+    }
+
+    // 파일을 열어 둔 채로 있지 않으므로 할 일 없음
+    @Override
+    public void close() {
+    }
+
+    synchronized boolean isCompacting() {
+        return compacting;
+    }
+
+    // 덮어쓰기 층의 항목 수 (테스트용)
+    synchronized int overlaySize() {
+        return deletedCount + overrides.size() + tail.size();
+    }
+
+    private void ensureLoaded() throws IOException {
+        if (loaded) {
+            return;
+        }
+        if (!baseFile.exists() && textBaseFile.exists()) {
+            convertTextBase();  // 이전 버전의 텍스트 base
+        } else if (!baseFile.exists() && legacyFile.exists()) {
+            importLegacyFile();  // 첫 실행: 예전 평문 파일을 base 로 가져온다
+        }
+        if (baseFile.exists()) {
+            base = BinaryDeck.open(baseFile);
+            nextId = Math.max(nextId, base.getMaxId() + 1);
+        }
+        if (journalFile.length() > 0) {
+            try (Reader reader = new InputStreamReader(new FileInputStream(journalFile), StandardCharsets.UTF_8)) {
+                replayJournal(reader);
+            }
+        }
+        loaded = true;
+    }
+
+    private int baseSize() {
+        return base != null ? base.size() : 0;
+    }
+
+    // 지우지 않은 항목의 현재 값 (없으면 null)
+    private SentencePair find(long id) {
+        int index = baseIndexOf(id);
+        if (index >= 0) {
+            SentencePair override = overrides.get(index);
+            return override != null ? override : base.get(index);
+        }
+        int position = tailIndexOf(id);
+        return position >= 0 ? tail.get(position) : null;
+    }
+
+    // 지우지 않은 base 항목의 위치 (없으면 -1)
+    private int baseIndexOf(long id) {
+        if (base == null || id > base.getMaxId()) {
+            return -1;
+        }
+        int index = firstIndexAfter(base, id - 1);
+        return index < base.size() && base.idAt(index) == id && !deleted.get(index) ? index : -1;
+    }
+
+    // 추가된 항목은 id 순서이므로 이분 탐색
+    private int tailIndexOf(long id) {
+        int index = firstTailIndexAfter(id - 1);
+        return index < tail.size() && tail.get(index).id == id ? index : -1;
+    }
+
+    // id 가 afterId 보다 큰 첫 추가 항목의 위치
+    private int firstTailIndexAfter(long afterId) {
+        int low = 0;
+        int high = tail.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (tail.get(mid).id <= afterId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // 추가/수정 기록을 덮어쓰기 층에 반영한다
+    private void apply(SentencePair entry) {
+        nextId = Math.max(nextId, entry.id + 1);
+        if (base != null && entry.id <= base.getMaxId()) {
+            int index = baseIndexOf(entry.id);
+            if (index >= 0) {
+                overrides.put(index, entry);
+            }
+            // base 에 없으면 base 를 쓰기 전에 지운 문장 (compaction 과 겹친 journal 을 다시 읽을 때)
+            return;
+        }
+        int position = tailIndexOf(entry.id);
+        if (position >= 0) {
+            tail.set(position, entry);
+        } else {
+            tail.add(entry);  // 새 id 는 항상 가장 크다
+        }
+    }
+
+    private void remove(long id) {
+        nextId = Math.max(nextId, id + 1);
+        int index = baseIndexOf(id);
+        if (index >= 0) {
+            deleted.set(index);
+            deletedCount++;
+            overrides.remove(index);
+            liveBase = null;
+            return;
+        }
+        int position = tailIndexOf(id);
+        if (position >= 0) {
+            tail.remove(position);
+        }
+    }
+
+    private List<SentencePair> applyUpdates(StringBuilder lines, List<SentencePair> updated) throws IOException {
+        if (updated.isEmpty()) {
+            return updated;
+        }
+        appendToJournal(lines);
+        for (SentencePair entry : updated) {
+            apply(entry);
+        }
+        changed();
+        return updated;
+    }
+
+    private void changed() {
+        view = null;
+        maybeCompact();
+    }
+
+    // 지우지 않은 base 위치 목록 (지운 게 없으면 null: 위치 그대로). 만든 배열은 고치지 않으므로 목록끼리 같이 쓴다.
+    private int[] liveBase() {
+        if (deletedCount == 0) {
+            return null;
+        }
+        if (liveBase == null) {
+            int[] live = new int[base.size() - deletedCount];
+            int next = 0;
+            for (int i = deleted.nextClearBit(0); i < base.size(); i = deleted.nextClearBit(i + 1)) {
+                live[next++] = i;
+            }
+            liveBase = live;
+        }
+        return liveBase;
+    }
+
+    // id 가 afterId 보다 큰 첫 항목의 위치 (덱은 id 순서로 쓰여 있다)
+    private static int firstIndexAfter(BinaryDeck deck, long afterId) {
+        int low = 0;
+        int high = deck.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (deck.idAt(mid) <= afterId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void importLegacyFile() throws IOException {
+        List<SentencePair> imported = new ArrayList<>();
+        long id = 1;
+        long now = System.currentTimeMillis();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new FileInputStream(legacyFile), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split("///");
+                if (parts.length == 2) {
+                    imported.add(new SentencePair(id++, parts[0], parts[1], now, 0, 0));
+                }
+            }
+        }
+        writeBase(imported);
+    }
+
+    private void convertTextBase() throws IOException {
+        List<SentencePair> converted = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new FileInputStream(textBaseFile), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                List<String> fields = decodeFields(line);
+                try {
+                    SentencePair entry = parseEntry(fields, 0);
+                    if (entry != null) {
+                        converted.add(entry);
+                    }
+                } catch (NumberFormatException ignored) {
+                    // 손상된 줄은 건너뜀
+                }
+            }
+        }
+        writeBase(converted);
+        textBaseFile.delete();
+    }
+
+    // journal 재생은 멱등: 같은 기록을 두 번 적용해도 결과가 같다
+    // (compaction 도중 종료되어 base 와 journal 이 겹쳐도 안전)
+    private void replayJournal(Reader in) throws IOException {
+        BufferedReader reader = new BufferedReader(in);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            List<String> fields = decodeFields(line);
+            if (fields.size() < 2 || fields.get(0).length() != 1) {
+                continue;  // 마지막 줄이 잘린 경우 등
+            }
+            char op = fields.get(0).charAt(0);
+            try {
+                if (op == OP_ADD || op == OP_UPDATE) {
+                    SentencePair entry = parseEntry(fields, 1);
+                    if (entry != null) {
+                        apply(entry);
+                    }
+                } else if (op == OP_DELETE) {
+                    remove(Long.parseLong(fields.get(1)));
+                }
+            } catch (NumberFormatException ignored) {
+                // 손상된 줄은 건너뜀
+            }
+        }
+    }
+
+    // id, 문장, 뜻 [, 저장 시각, 맞힌 횟수, 틀린 횟수]
+    // 예전 형식 (앞의 세 필드만 있는 줄) 도 읽는다
+    private static SentencePair parseEntry(List<String> fields, int start) {
+        int count = fields.size() - start;
+        if (count != 3 && count != 6) {
+            return null;
+        }
+        long id = Long.parseLong(fields.get(start));
+        String sentence = fields.get(start + 1);
+        String translation = fields.get(start + 2);
+        if (count == 3) {
+            return new SentencePair(id, sentence, translation, 0, 0, 0);
+        }
+        return new SentencePair(id, sentence, translation,
+                Long.parseLong(fields.get(start + 3)),
+                Integer.parseInt(fields.get(start + 4)),
+                Integer.parseInt(fields.get(start + 5)));
+    }
+
+    private static void appendEntry(StringBuilder line, SentencePair entry) {
+        line.append(entry.id).append('\t');
+        appendEscaped(line, entry.sentence);
+        line.append('\t');
+        appendEscaped(line, entry.translation);
+        line.append('\t').append(entry.createdAt)
+                .append('\t').append(entry.correctCount)
+                .append('\t').append(entry.wrongCount);
+    }
+
+    private void appendRecord(char op, SentencePair entry) throws IOException {
+        StringBuilder line = new StringBuilder();
+        line.append(op).append('\t');
+        if (op == OP_DELETE) {
+            line.append(entry.id);
+        } else {
+            appendEntry(line, entry);
+        }
+        line.append('\n');
+        appendToJournal(line);
+    }
+
+    private void appendToJournal(CharSequence lines) throws IOException {
+        try (FileOutputStream fos = new FileOutputStream(journalFile, true)) {
+            fos.write(lines.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void maybeCompact() {
+        if (compacting || journalFile.length() < compactThresholdBytes) {
+            return;
+        }
+        compacting = true;
+        final List<SentencePair> snapshot;
+        try {
+            snapshot = load();  // 읽기 전용 목록이라 쓰는 동안 저장소가 바뀌어도 그대로
+        } catch (IOException e) {
+            compacting = false;
+            return;
+        }
+        final long usedMaxId = nextId - 1;  // 지운 문장의 id 도 다시 쓰지 않도록 헤더에 남긴다
+        final long journalOffset = journalFile.length();
+        compactor.execute(() -> compact(snapshot, usedMaxId, journalOffset));
+    }
+
+    // 스냅샷으로 base 를 새로 쓰고, 그 사이에 journal 에 추가된 기록만 남긴다.
+    // 새 base 를 열고 덮어쓰기 층은 남은 기록으로 다시 만든다.
+    private void compact(List<SentencePair> snapshot, long usedMaxId, long journalOffset) {
+        File tmpBase = new File(baseFile.getPath() + ".tmp");
+        try {
+            BinaryDeck.write(tmpBase, snapshot, usedMaxId);
+            synchronized (this) {
+                byte[] rest = readFrom(journalFile, journalOffset);
+                if (!tmpBase.renameTo(baseFile)) {
+                    throw new IOException("Failed to replace " + baseFile);
+                }
+                File tmpJournal = new File(journalFile.getPath() + ".tmp");
+                try (FileOutputStream fos = new FileOutputStream(tmpJournal)) {
+                    fos.write(rest);
+                    fos.getFD().sync();
+                }
+                if (!tmpJournal.renameTo(journalFile)) {
+                    throw new IOException("Failed to replace " + journalFile);
+                }
+                base = BinaryDeck.open(baseFile);
+                deleted.clear();
+                deletedCount = 0;
+                overrides.clear();
+                tail.clear();
+                liveBase = null;
+                view = null;
+                replayJournal(new InputStreamReader(new ByteArrayInputStream(rest), StandardCharsets.UTF_8));
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            tmpBase.delete();
+        } finally {
+            synchronized (this) {
+                compacting = false;
+            }
+        }
+    }
+
+    private void writeBase(List<SentencePair> list) throws IOException {
+        File tmpBase = new File(baseFile.getPath() + ".tmp");
+        BinaryDeck.write(tmpBase, list);
+        if (!tmpBase.renameTo(baseFile)) {
+            throw new IOException("Failed to replace " + baseFile);
+        }
+    }
+
+    private static byte[] readFrom(File file, long offset) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            long length = raf.length();
+            if (length <= offset) {
+                return new byte[0];
+            }
+            raf.seek(offset);
+            ByteArrayOutputStream out = new ByteArrayOutputStream((int) (length - offset));
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = raf.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    // base (매핑) + 덮어쓰기 층 복사본을 합쳐 보여주는 읽기 전용 목록
+    // 앞쪽은 지우지 않은 base 항목 (바뀐 항목은 새 값), 뒤쪽은 base 뒤에 추가된 항목.
+    private static final class OverlayList extends AbstractList<SentencePair> implements RandomAccess {
+        private final BinaryDeck base;
+        private final int[] liveBase;  // null: 지운 항목 없음
+        private final Map<Integer, SentencePair> overrides;
+        private final List<SentencePair> tail;
+        private final int baseCount;
+
+        OverlayList(BinaryDeck base, int[] liveBase, Map<Integer, SentencePair> overrides, List<SentencePair> tail) {
+            this.base = base;
+            this.liveBase = liveBase;
+            this.overrides = overrides;
+            this.tail = tail;
+            this.baseCount = liveBase != null ? liveBase.length : base != null ? base.size() : 0;
+        }
+
+        @Override
+        public SentencePair get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("index " + index + ", size " + size());
+            }
+            if (index >= baseCount) {
+                return tail.get(index - baseCount);
+            }
+            int position = liveBase != null ? liveBase[index] : index;
+            SentencePair override = overrides.get(position);
+            return override != null ? override : base.get(position);
+        }
+
+        @Override
+        public int size() {
+            return baseCount + tail.size();
+        }
+    }
+
+    // 탭/줄바꿈/역슬래시를 이스케이프 (문장 안의 줄바꿈도 한 줄로 저장)
+    static void appendEscaped(StringBuilder out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\': out.append("\\\\"); break;
+                case '\t': out.append("\\t"); break;
+                case '\n': out.append("\\n"); break;
+                case '\r': out.append("\\r"); break;
+                default: out.append(c);
+            }
+        }
+    }
+
+    static List<String> decodeFields(String line) {
+        List<String> fields = new ArrayList<>(4);
+        StringBuilder field = new StringBuilder();
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '\t') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\\' && i + 1 < line.length()) {
+                char next = line.charAt(++i);
+                switch (next) {
+                    case 't': field.append('\t'); break;
+                    case 'n': field.append('\n'); break;
+                    case 'r': field.append('\r'); break;
+                    default: field.append(next);
+                }
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,230 @@
+package com.no.mypocketenglish;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+// 목록 화면용 페이지 창
+// 전체 개수만 먼저 알고, 화면에 필요한 페이지만 저장소에서 id 순서로 읽어 (keyset) 최대 maxPages 개까지 들고 있는다.
+// 넘치면 방금 읽은 페이지에서 가장 먼 페이지를 버린다.
+// 페이지 p 를 읽으려면 앞 페이지의 마지막 id (커서) 가 필요하므로 읽을 때마다 커서를 기록해 두고,
+// 모르는 페이지로 건너뛰면 아는 커서부터 앞으로 걸어가며 기록한다 (걸어간 페이지는 들고 있지 않음).
+// 덱이 바뀌면 reset() 으로 모두 버리고, 그 전에 시작한 읽기 결과는 세대 (generation) 로 걸러낸다.
+// 문장 하나만 바뀌거나 지워졌으면 들고 있는 페이지만 고친다 (replace / remove). 지울 때는 뒤쪽 행이 한 칸씩
+// 당겨지므로 세대를 올려 뒤쪽 페이지를 읽던 결과만 버리고, 앞쪽 페이지를 읽던 결과는 그대로 받는다.
+// 화면 스레드와 I/O 스레드에서 같이 쓰므로 모든 상태는 락 안에서만 바꾼다.
+public final class SentencePageWindow {
+
+    public interface Loader {
+        List<SentencePair> page(long afterId, int limit) throws IOException;
+    }
+
+    private final int pageSize;
+    private final int maxPages;
+    private final Map<Integer, List<SentencePair>> pages = new HashMap<>();
+    private final Map<Integer, Integer> loading = new HashMap<>();  // 읽는 중인 페이지 -> 시작한 세대
+    private long[] cursors = new long[16];  // cursors[p]: 페이지 p 앞의 마지막 id (0 번은 0)
+    private int cursorCount = 1;
+    private int count;
+    private int generation;
+
+    public SentencePageWindow(int pageSize, int maxPages) {
+        this.pageSize = pageSize;
+        this.maxPages = maxPages;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public synchronized int getCount() {
+        return count;
+    }
+
+    public synchronized int getGeneration() {
+        return generation;
+    }
+
+    public int pageOf(int position) {
+        return position / pageSize;
+    }
+
+    // 아직 읽지 않았으면 null
+    public synchronized SentencePair get(int position) {
+        List<SentencePair> page = pages.get(position / pageSize);
+        int offset = position % pageSize;
+        return page != null && offset < page.size() ? page.get(offset) : null;
+    }
+
+    public synchronized int loadedPageCount() {
+        return pages.size();
+    }
+
+    // 읽어야 하는 페이지면 읽는 중으로 표시하고 true (앞에서 지워져 행이 모자라게 된 페이지도 다시 읽는다)
+    public synchronized boolean startLoading(int page) {
+        if (page < 0 || page * (long) pageSize >= count || loading.containsKey(page)) {
+            return false;
+        }
+        List<SentencePair> rows = pages.get(page);
+        if (rows != null && rows.size() >= Math.min(pageSize, count - page * pageSize)) {
+            return false;
+        }
+        loading.put(page, generation);
+        return true;
+    }
+
+    public synchronized void cancelLoading(int page) {
+        loading.remove(page);
+    }
+
+    // I/O 스레드에서 호출. 커서를 모르면 아는 곳부터 앞으로 걸어간다.
+    public List<SentencePair> fetch(int generation, int page, Loader loader) throws IOException {
+        int known;
+        long afterId;
+        synchronized (this) {
+            known = Math.min(page, cursorCount - 1);
+            afterId = cursors[known];
+        }
+        List<SentencePair> rows = loader.page(afterId, pageSize);
+        while (known < page && !rows.isEmpty()) {
+            afterId = rows.get(rows.size() - 1).id;
+            recordCursor(generation, ++known, afterId);
+            rows = loader.page(afterId, pageSize);
+        }
+        if (!rows.isEmpty()) {
+            recordCursor(generation, page + 1, rows.get(rows.size() - 1).id);
+        }
+        return rows;  // 덱이 그 사이에 줄었으면 비어 있음
+    }
+
+    // 읽은 페이지를 넣는다. 그 사이 reset 됐거나 앞에서 행이 지워져 어긋났으면 버리고 false.
+    public synchronized boolean put(int generation, int page, List<SentencePair> rows) {
+        Integer started = loading.get(page);
+        if (started == null || started != generation) {
+            return false;
+        }
+        loading.remove(page);
+        pages.put(page, rows);
+        while (pages.size() > maxPages) {
+            pages.remove(farthestFrom(page));
+        }
+        return true;
+    }
+
+    // 덱이 바뀜: 개수를 새로 받고 페이지/커서를 모두 버린다
+    public synchronized void reset(int count) {
+        this.count = count;
+        pages.clear();
+        loading.clear();
+        cursorCount = 1;
+        generation++;
+    }
+
+    // 문장 하나의 문장/뜻이 바뀜: 들고 있는 페이지에 있으면 그 행만 바꾸고 위치를 돌려준다.
+    // 없으면 -1 (그 페이지는 다음에 읽을 때 새 값을 읽는다).
+    public synchronized int replace(SentencePair entry) {
+        for (Map.Entry<Integer, List<SentencePair>> loaded : pages.entrySet()) {
+            int offset = indexOf(loaded.getValue(), entry.id);
+            if (offset >= 0) {
+                List<SentencePair> rows = new ArrayList<>(loaded.getValue());  // 읽은 목록은 고치지 않는다
+                rows.set(offset, entry);
+                loaded.setValue(rows);
+                return loaded.getKey() * pageSize + offset;
+            }
+        }
+        return -1;
+    }
+
+    // 문장 하나가 지워짐: 들고 있는 페이지에 있으면 그 행을 빼고, 이어서 들고 있는 뒤 페이지의 첫 행을
+    // 한 칸씩 앞으로 당긴 다음 위치를 돌려준다. 마지막으로 당긴 페이지는 한 행이 모자라서 그 행을 그릴 때 다시 읽힌다.
+    // 들고 있지 않은 행이면 위치를 모르므로 -1 (reset 할 것).
+    public synchronized int remove(long id) {
+        int page = -1;
+        int offset = -1;
+        for (Map.Entry<Integer, List<SentencePair>> loaded : pages.entrySet()) {
+            offset = indexOf(loaded.getValue(), id);
+            if (offset >= 0) {
+                page = loaded.getKey();
+                break;
+            }
+        }
+        if (page < 0) {
+            return -1;
+        }
+        count--;
+        generation++;  // 지금 읽는 중인 뒤쪽 페이지는 한 칸 어긋나므로 버린다 (앞쪽은 시작한 세대 그대로 받음)
+        for (Iterator<Integer> it = loading.keySet().iterator(); it.hasNext(); ) {
+            if (it.next() > page) {
+                it.remove();
+            }
+        }
+        List<SentencePair> rows = new ArrayList<>(pages.get(page));
+        rows.remove(offset);
+        pages.put(page, rows);
+        int last = page;
+        while (pages.containsKey(last + 1)) {
+            List<SentencePair> next = new ArrayList<>(pages.get(last + 1));
+            rows.add(next.remove(0));
+            last++;
+            if (next.isEmpty()) {
+                pages.remove(last);
+                break;
+            }
+            pages.put(last, next);
+            rows = next;
+        }
+        // 커서는 지운 페이지까지 그대로이고, 당긴 페이지는 가득 찼으므로 그 끝 id 로 다시 기록한다
+        cursorCount = Math.min(cursorCount, page + 1);
+        for (int next = page + 1; next <= last && cursorCount == next; next++) {
+            List<SentencePair> previous = pages.get(next - 1);
+            appendCursor(previous.get(previous.size() - 1).id);
+        }
+        return page * pageSize + offset;
+    }
+
+    // 페이지 안의 위치 (페이지는 id 순서). 없으면 -1.
+    private static int indexOf(List<SentencePair> rows, long id) {
+        int low = 0;
+        int high = rows.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midId = rows.get(mid).id;
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private synchronized void recordCursor(int generation, int page, long afterId) {
+        if (generation != this.generation || page != cursorCount) {
+            return;  // 지난 세대이거나 이미 아는 커서
+        }
+        appendCursor(afterId);
+    }
+
+    private void appendCursor(long afterId) {
+        if (cursorCount == cursors.length) {
+            cursors = Arrays.copyOf(cursors, cursorCount * 2);
+        }
+        cursors[cursorCount++] = afterId;
+    }
+
+    private int farthestFrom(int page) {
+        int farthest = page;
+        for (int candidate : pages.keySet()) {
+            if (Math.abs(candidate - page) > Math.abs(farthest - page)) {
+                farthest = candidate;
+            }
+        }
+        return farthest;
+    }
+}
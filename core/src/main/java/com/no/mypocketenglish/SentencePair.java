@@ -0,0 +1,36 @@
+package com.no.mypocketenglish;
+
+// 저장된 문장 하나 (영어 문장 + 한국어 뜻 + 학습 기록)
+// 로드할 때 한 번만 파싱하고, 이후에는 이 객체의 필드를 그대로 쓴다.
+public final class SentencePair {
+
+    public final long id;
+    public final String sentence;     // 영어
+    public final String translation;  // 한국어
+    public final long createdAt;      // 저장 시각 (ms)
+    public final int correctCount;    // 맞힌 횟수
+    public final int wrongCount;      // 틀린 횟수
+
+    public SentencePair(long id, String sentence, String translation, long createdAt,
+                        int correctCount, int wrongCount) {
+        this.id = id;
+        this.sentence = sentence;
+        this.translation = translation;
+        this.createdAt = createdAt;
+        this.correctCount = correctCount;
+        this.wrongCount = wrongCount;
+    }
+
+    public SentencePair withText(String sentence, String translation) {
+        return new SentencePair(id, sentence, translation, createdAt, correctCount, wrongCount);
+    }
+
+    public SentencePair withStats(int correctCount, int wrongCount) {
+        return new SentencePair(id, sentence, translation, createdAt, correctCount, wrongCount);
+    }
+
+    @Override
+    public String toString() {
+        return sentence + "\n" + translation;
+    }
+}
@@ -0,0 +1,243 @@
+package com.no.mypocketenglish;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// 프로세스 전체에서 공유하는 문장 캐시
+// 한 번만 로드하고, 문장이 바뀌면 버전을 올려서 구독자에게 알린다 (학습 기록만 바뀐 경우는 알리지 않음).
+// *Async 메서드는 저장소 I/O 스레드에서 실행되고 결과는 callbackExecutor (메인 스레드) 로 전달된다.
+// 저장소를 실제로 읽고 쓰는 시간은 "storage.*" 타이머에 남는다.
+// 저장 엔진 (SentenceStorage) 은 실행 중에 바꿀 수 있다 (setStorage).
+public class SentenceRepository {
+
+    // 문장 하나만 바뀌거나 지워졌을 때는 그 문장만 알린다 (목록 화면이 그 행만 고치도록).
+    // 따로 처리하지 않는 구독자는 전체가 바뀐 것으로 받는다.
+    public interface Listener {
+        void onSentencesChanged(long version);
+
+        default void onSentenceUpdated(long version, SentencePair entry) {
+            onSentencesChanged(version);
+        }
+
+        default void onSentenceDeleted(long version, long id) {
+            onSentencesChanged(version);
+        }
+    }
+
+    private static SentenceRepository instance;
+
+    private SentenceStorage store;
+    private final Executor callbackExecutor;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    private List<SentencePair> snapshot;  // 읽기 전용 목록
+    private long version = 0;
+
+    // storage 는 처음 한 번만 호출된다
+    public static synchronized SentenceRepository getInstance(Supplier<SentenceStorage> storage, Executor mainExecutor) {
+        if (instance == null) {
+            instance = new SentenceRepository(storage.get(), mainExecutor);
+        }
+        return instance;
+    }
+
+    // 아직 만들어지지 않았으면 null
+    public static synchronized SentenceRepository peekInstance() {
+        return instance;
+    }
+
+    public SentenceRepository(SentenceStorage store, Executor callbackExecutor) {
+        this.store = store;
+        this.callbackExecutor = callbackExecutor;
+    }
+
+    // 캐시된 문장 목록 (수정 불가). 처음 호출할 때만 저장소에서 읽으므로 I/O 스레드에서 부를 것.
+    public synchronized List<SentencePair> getSentences() throws IOException {
+        if (snapshot == null) {
+            Metrics.Sample sample = Metrics.global().start("storage.load");
+            snapshot = Collections.unmodifiableList(store.load());
+            sample.stop();
+        }
+        return snapshot;
+    }
+
+    // 전체 개수 (I/O 스레드에서 호출). 목록을 이미 들고 있으면 그 크기, 아니면 저장소의 헤더나 COUNT 질의.
+    public synchronized int count() throws IOException {
+        if (snapshot != null) {
+            return snapshot.size();
+        }
+        Metrics.Sample sample = Metrics.global().start("storage.count");
+        int count = store.count();
+        sample.stop();
+        return count;
+    }
+
+    // id 순서로 afterId 다음부터 최대 limit 개 (I/O 스레드에서 호출). 전체 목록을 만들지 않는다.
+    public synchronized List<SentencePair> page(long afterId, int limit) throws IOException {
+        Metrics.Sample sample = Metrics.global().start("storage.page");
+        List<SentencePair> page = store.page(afterId, limit);
+        sample.stop();
+        return page;
+    }
+
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    public void loadAsync(StorageExecutor.Callback<List<SentencePair>> callback) {
+        StorageExecutor.submit(callbackExecutor, this::getSentences, callback);
+    }
+
+    public void addAsync(String sentence, String translation, StorageExecutor.Callback<SentencePair> callback) {
+        StorageExecutor.submit(callbackExecutor, () -> add(sentence, translation), callback);
+    }
+
+    public void updateAsync(long id, String sentence, String translation, StorageExecutor.Callback<SentencePair> callback) {
+        StorageExecutor.submit(callbackExecutor, () -> update(id, sentence, translation), callback);
+    }
+
+    public void deleteAsync(long id, StorageExecutor.Callback<Boolean> callback) {
+        StorageExecutor.submit(callbackExecutor, () -> delete(id), callback);
+    }
+
+    SentencePair add(String sentence, String translation) throws IOException {
+        SentencePair entry;
+        long newVersion;
+        synchronized (this) {
+            Metrics.Sample sample = Metrics.global().start("storage.add");
+            entry = store.add(sentence, translation);
+            sample.stop();
+            newVersion = invalidate();
+        }
+        notifyListeners(newVersion);
+        return entry;
+    }
+
+    // 가져오기 등에서 여러 문장을 한 번에 추가 (I/O 스레드에서 호출)
+    public List<SentencePair> addAll(List<SentencePair> drafts) throws IOException {
+        List<SentencePair> added;
+        long newVersion;
+        synchronized (this) {
+            Metrics.Sample sample = Metrics.global().start("storage.addAll");
+            added = store.addAll(drafts);
+            sample.stop();
+            if (added.isEmpty()) {
+                return added;
+            }
+            newVersion = invalidate();
+        }
+        notifyListeners(newVersion);
+        return added;
+    }
+
+    SentencePair update(long id, String sentence, String translation) throws IOException {
+        SentencePair entry;
+        long newVersion;
+        synchronized (this) {
+            Metrics.Sample sample = Metrics.global().start("storage.update");
+            entry = store.update(id, sentence, translation);
+            sample.stop();
+            if (entry == null) {
+                return null;
+            }
+            newVersion = invalidate();
+        }
+        notifyListeners(listener -> listener.onSentenceUpdated(newVersion, entry));
+        return entry;
+    }
+
+    // 게임 결과를 문장별 학습 기록에 더한다 (I/O 스레드에서 호출)
+    // 게임 중에 몇 초마다 불리므로 버전을 올리지 않고 구독자에게도 알리지 않는다
+    // (문장/뜻은 그대로라 문제 풀과 목록은 다시 만들 필요가 없음, 상자는 스케줄러가 따로 들고 있다).
+    // 캐시한 목록만 버려서 다음에 읽을 때 새 기록이 보이게 한다.
+    public synchronized List<SentencePair> addStats(Map<Long, int[]> deltas) throws IOException {
+        Metrics.Sample sample = Metrics.global().start("storage.addStats");
+        List<SentencePair> updated = store.addStats(deltas);
+        sample.stop();
+        if (!updated.isEmpty()) {
+            snapshot = null;
+        }
+        return updated;
+    }
+
+    // 자동 번역 결과를 뜻이 빈 문장에 채운다 (I/O 스레드에서 호출). 바뀐 문장이 있으면 한 번만 알린다.
+    public List<SentencePair> fillTranslations(Map<Long, String> translations) throws IOException {
+        List<SentencePair> updated;
+        long newVersion;
+        synchronized (this) {
+            Metrics.Sample sample = Metrics.global().start("storage.fillTranslations");
+            updated = store.fillTranslations(translations);
+            sample.stop();
+            if (updated.isEmpty()) {
+                return updated;
+            }
+            newVersion = invalidate();
+        }
+        notifyListeners(newVersion);
+        return updated;
+    }
+
+    boolean delete(long id) throws IOException {
+        long newVersion;
+        synchronized (this) {
+            Metrics.Sample sample = Metrics.global().start("storage.delete");
+            boolean deleted = store.delete(id);
+            sample.stop();
+            if (!deleted) {
+                return false;
+            }
+            newVersion = invalidate();
+        }
+        notifyListeners(listener -> listener.onSentenceDeleted(newVersion, id));
+        return true;
+    }
+
+    // 저장 엔진을 바꾼다 (I/O 스레드에서 호출). 이전 엔진은 닫고, 구독자는 새 엔진의 목록을 다시 읽는다.
+    public void setStorage(SentenceStorage storage) throws IOException {
+        SentenceStorage previous;
+        long newVersion;
+        synchronized (this) {
+            previous = store;
+            if (previous == storage) {
+                return;
+            }
+            store = storage;
+            newVersion = invalidate();
+        }
+        previous.close();
+        notifyListeners(newVersion);
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    // 다음 getSentences() 에서 저장소의 메모리 상태로 다시 만든다 (파일 I/O 없음)
+    private long invalidate() {
+        snapshot = null;
+        return ++version;
+    }
+
+    // 구독자는 항상 callbackExecutor (메인 스레드) 에서 호출된다
+    private void notifyListeners(long newVersion) {
+        notifyListeners(listener -> listener.onSentencesChanged(newVersion));
+    }
+
+    private void notifyListeners(Consumer<Listener> event) {
+        callbackExecutor.execute(() -> {
+            for (Listener listener : listeners) {
+                event.accept(listener);
+            }
+        });
+    }
+}
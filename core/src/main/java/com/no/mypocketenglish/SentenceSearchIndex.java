@@ -0,0 +1,308 @@
+package com.no.mypocketenglish;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// 문장 목록 검색용 trigram 색인
+// 영어 문장과 한국어 뜻을 소문자로 바꿔서 한 번만 색인하고, 수정/삭제 때 해당 항목만 갱신한다.
+// 한글은 자모로 풀어서 색인하므로 입력 중인 음절 ("한구" -> "한국") 도 찾고,
+// 초성만 입력하면 ("ㅎㄱㅇ" -> "한국어") 초성 색인에서 찾는다.
+// 검색어를 이어서 입력하면 (이전 검색어를 포함하면) 이전 결과 안에서만 다시 찾는다.
+// 변환된 텍스트는 항목마다 String 으로 두지 않고 TextArena (char 배열 하나 + slot 별 위치) 에 둔다.
+// 검색 결과 (Result) 는 slot 번호 배열 (int[]) 만 들고 있고, 행은 꺼낼 때 (바인딩할 때) slot 표에서 문장으로 바꾼다.
+// 검색할 때마다 결과 크기만 한 SentencePair 목록을 새로 만들지 않는다.
+// 메인 스레드 하나에서만 사용할 것 (동기화 없음).
+public class SentenceSearchIndex {
+
+    private static final int GRAM = 3;
+
+    // slot: 항목이 들어온 순서대로 붙는 번호 (목록 순서와 같음). 삭제된 slot 은 null.
+    // 내준 Result 가 이 배열을 같이 보고 있으면 (pairsShared) 수정/삭제 전에 복사한다: 결과는 만든 뒤에 바뀌지 않으므로
+    // 다른 스레드의 차이 계산 (AsyncListDiffer) 에 넘겨도 된다.
+    private SentencePair[] pairs = new SentencePair[16];
+    private boolean pairsShared = false;
+    private int slotCount = 0;
+    private int size = 0;
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private final Field jamoField = new Field();      // 소문자 + 자모 분해
+    private final Field choseongField = new Field();  // 소문자 + 초성
+
+    // 점진 검색용 이전 결과
+    private Field lastField;
+    private String lastQuery;
+    private int[] lastResult;
+    private int lastResultSize;
+    private int modCount = 0;
+    private int lastModCount = -1;
+
+    public void addAll(List<SentencePair> entries) {
+        for (SentencePair entry : entries) {
+            add(entry);
+        }
+    }
+
+    public void add(SentencePair entry) {
+        if (slotById.containsKey(entry.id)) {
+            update(entry);
+            return;
+        }
+        if (slotCount == pairs.length) {
+            pairs = Arrays.copyOf(pairs, slotCount * 2);
+        }
+        int slot = slotCount++;
+        pairs[slot] = entry;
+        slotById.put(entry.id, slot);
+        size++;
+        String text = normalize(entry);
+        jamoField.set(slot, HangulJamo.decompose(text));
+        choseongField.set(slot, HangulJamo.choseong(text));
+        modCount++;
+    }
+
+    public void update(SentencePair entry) {
+        Integer slot = slotById.get(entry.id);
+        if (slot == null) {
+            add(entry);
+            return;
+        }
+        String text = normalize(entry);
+        jamoField.set(slot, HangulJamo.decompose(text));
+        choseongField.set(slot, HangulJamo.choseong(text));
+        unsharePairs();
+        pairs[slot] = entry;
+        modCount++;
+    }
+
+    public void remove(long id) {
+        Integer slot = slotById.remove(id);
+        if (slot == null) {
+            return;
+        }
+        jamoField.set(slot, null);
+        choseongField.set(slot, null);
+        unsharePairs();
+        pairs[slot] = null;
+        size--;
+        modCount++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 전체 항목 (목록 순서)
+    public Result all() {
+        int[] slots = new int[size];
+        int count = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (pairs[slot] != null) {
+                slots[count++] = slot;
+            }
+        }
+        return view(slots, count);
+    }
+
+    // query 를 포함하는 항목 (대소문자 무시, 목록 순서)
+    public Result search(String query) {
+        String lower = query.toLowerCase(Locale.ROOT);
+        if (lower.trim().isEmpty()) {
+            return all();
+        }
+        // 검색어도 색인과 같은 방식으로 한 번만 변환
+        Field field;
+        String q;
+        if (HangulJamo.isChoseongQuery(lower)) {
+            field = choseongField;
+            q = lower;
+        } else {
+            field = jamoField;
+            q = HangulJamo.decompose(lower);
+        }
+
+        // 후보: 이전 결과 (검색어를 이어서 입력한 경우) 와 가장 짧은 posting 중 작은 쪽
+        int[] candidates = null;
+        int candidateCount = -1;
+        if (lastQuery != null && lastField == field && lastModCount == modCount && q.contains(lastQuery)) {
+            candidates = lastResult;
+            candidateCount = lastResultSize;
+        }
+        if (q.length() >= GRAM) {
+            IntList shortest = field.shortestPosting(q);
+            if (shortest == null) {
+                return remember(field, q, new int[0], 0);
+            }
+            if (candidateCount < 0 || shortest.size < candidateCount) {
+                candidates = shortest.values;
+                candidateCount = shortest.size;
+            }
+        }
+
+        TextArena texts = field.texts;
+        int[] matches = new int[candidateCount < 0 ? size : candidateCount];
+        int matchCount = 0;
+        if (candidateCount < 0) {
+            // 세 글자보다 짧은 첫 검색어는 전체를 훑는다 (이미 변환된 텍스트라 추가 할당 없음)
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (texts.contains(slot, q)) {
+                    matches[matchCount++] = slot;
+                }
+            }
+        } else {
+            for (int i = 0; i < candidateCount; i++) {
+                int slot = candidates[i];
+                if (texts.contains(slot, q)) {
+                    matches[matchCount++] = slot;
+                }
+            }
+        }
+        return remember(field, q, matches, matchCount);
+    }
+
+    // matches 는 결과와 다음 점진 검색이 같이 쓴다 (둘 다 읽기만 함)
+    private Result remember(Field field, String q, int[] matches, int matchCount) {
+        lastField = field;
+        lastQuery = q;
+        lastResult = matches;
+        lastResultSize = matchCount;
+        lastModCount = modCount;
+        return view(matches, matchCount);
+    }
+
+    private Result view(int[] slots, int count) {
+        pairsShared = true;
+        return new Result(pairs, slots, count);
+    }
+
+    private void unsharePairs() {
+        if (pairsShared) {
+            pairs = pairs.clone();
+            pairsShared = false;
+        }
+    }
+
+    // 검색 결과: slot 번호만 들고 있는 읽기 전용 목록. 만든 뒤에 색인이 바뀌어도 그대로다.
+    public static final class Result extends AbstractList<SentencePair> {
+        private final SentencePair[] pairs;
+        private final int[] slots;
+        private final int size;
+
+        Result(SentencePair[] pairs, int[] slots, int size) {
+            this.pairs = pairs;
+            this.slots = slots;
+            this.size = size;
+        }
+
+        @Override
+        public SentencePair get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("index " + index + ", size " + size);
+            }
+            return pairs[slots[index]];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    static String normalize(SentencePair entry) {
+        return (entry.sentence + "\n" + entry.translation).toLowerCase(Locale.ROOT);
+    }
+
+    private static long gram(String text, int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+
+    // 변환된 텍스트 (slot 별) 와 그 trigram posting
+    private static final class Field {
+        final TextArena texts = new TextArena(16, 1024);
+        final Map<Long, IntList> postings = new HashMap<>();  // trigram -> 정렬된 slot 목록
+
+        // slot 의 텍스트를 바꾸고 바뀐 경우에만 posting 갱신 (null 이면 삭제)
+        void set(int slot, String text) {
+            if (text != null && texts.contentEquals(slot, text)) {
+                return;
+            }
+            String old = texts.get(slot);  // 수정/삭제 때만 (posting 에서 빼기 위해)
+            if (old != null) {
+                indexText(slot, old, false);
+            }
+            texts.set(slot, text);
+            if (text != null) {
+                indexText(slot, text, true);
+            }
+        }
+
+        // 검색어의 trigram 중 posting 이 가장 짧은 것 (하나라도 없으면 null)
+        IntList shortestPosting(String q) {
+            IntList shortest = null;
+            for (int i = 0; i + GRAM <= q.length(); i++) {
+                IntList list = postings.get(gram(q, i));
+                if (list == null || list.size == 0) {
+                    return null;
+                }
+                if (shortest == null || list.size < shortest.size) {
+                    shortest = list;
+                }
+            }
+            return shortest;
+        }
+
+        private void indexText(int slot, String text, boolean add) {
+            for (int i = 0; i + GRAM <= text.length(); i++) {
+                long key = gram(text, i);
+                IntList list = postings.get(key);
+                if (add) {
+                    if (list == null) {
+                        list = new IntList();
+                        postings.put(key, list);
+                    }
+                    list.addSorted(slot);
+                } else if (list != null) {
+                    list.remove(slot);
+                }
+            }
+        }
+    }
+
+    // 정렬된 int 목록 (중복 없음)
+    static final class IntList {
+        int[] values = new int[4];
+        int size = 0;
+
+        void addSorted(int value) {
+            // 대부분 새 slot 이 가장 크므로 끝에 붙는다
+            if (size > 0 && values[size - 1] == value) {
+                return;
+            }
+            int index = size == 0 || values[size - 1] < value
+                    ? size : Arrays.binarySearch(values, 0, size, value);
+            if (index >= 0 && index < size && values[index] == value) {
+                return;
+            }
+            if (index < 0) {
+                index = -index - 1;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            System.arraycopy(values, index, values, index + 1, size - index);
+            values[index] = value;
+            size++;
+        }
+
+        void remove(int value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(values, index + 1, values, index, size - index - 1);
+            size--;
+        }
+    }
+}
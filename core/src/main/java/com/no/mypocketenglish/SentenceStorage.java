@@ -0,0 +1,38 @@
+package com.no.mypocketenglish;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+// 문장 저장 엔진 (SentenceRepository 가 I/O 스레드에서만 호출)
+// - SentenceJournalStore: 이진 덱 + 추가 전용 journal 파일
+// - SqliteSentenceStorage (app): SQLite (WAL)
+// 목록 순서는 항상 id 오름차순이다 (새 문장일수록 id 가 크다).
+public interface SentenceStorage extends Closeable {
+
+    // 전체 문장 목록 (수정하지 말 것)
+    List<SentencePair> load() throws IOException;
+
+    SentencePair add(String sentence, String translation) throws IOException;
+
+    // 여러 문장을 한 번에 추가한다. id 와 저장 시각은 새로 붙이고, 학습 기록은 그대로 옮긴다.
+    List<SentencePair> addAll(List<SentencePair> drafts) throws IOException;
+
+    // 문장/뜻만 바꾼다 (없는 id 면 null)
+    SentencePair update(long id, String sentence, String translation) throws IOException;
+
+    // 맞힘/틀림 횟수를 한꺼번에 더한다 (id -> {맞힌 수, 틀린 수}). 없는 id 는 건너뛴다.
+    List<SentencePair> addStats(Map<Long, int[]> deltas) throws IOException;
+
+    // 뜻이 아직 비어 있는 문장에만 뜻을 채운다 (id -> 뜻, 자동 번역 결과 저장용).
+    // 그 사이 지워졌거나 사용자가 뜻을 적은 문장은 건너뛴다. 바뀐 문장만 돌려준다.
+    List<SentencePair> fillTranslations(Map<Long, String> translations) throws IOException;
+
+    boolean delete(long id) throws IOException;
+
+    int count() throws IOException;
+
+    // afterId 보다 큰 id 를 가진 문장을 id 순서로 최대 limit 개 (keyset 페이지)
+    List<SentencePair> page(long afterId, int limit) throws IOException;
+}
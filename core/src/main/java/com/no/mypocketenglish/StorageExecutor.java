@@ -0,0 +1,54 @@
+package com.no.mypocketenglish;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 모든 저장소 I/O 를 처리하는 단일 스레드
+// 쓰기는 요청한 순서대로 실행되고, 화면 스레드는 파일을 기다리지 않는다.
+public final class StorageExecutor {
+
+    private static final ExecutorService io = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "storage-io");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private StorageExecutor() {
+    }
+
+    public static Executor io() {
+        return io;
+    }
+
+    // 저장소 작업 결과를 받는 콜백 (콜백 스레드에서 호출됨)
+    public interface Callback<T> {
+        void onSuccess(T result);
+
+        default void onFailure(Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    public interface Task<T> {
+        T run() throws Exception;
+    }
+
+    // task 를 I/O 스레드에서 실행하고 결과를 callbackExecutor 로 전달
+    public static <T> void submit(Executor callbackExecutor, Task<T> task, Callback<T> callback) {
+        io.execute(() -> {
+            try {
+                T result = task.run();
+                if (callback != null) {
+                    callbackExecutor.execute(() -> callback.onSuccess(result));
+                }
+            } catch (Exception e) {
+                if (callback != null) {
+                    callbackExecutor.execute(() -> callback.onFailure(e));
+                } else {
+                    e.printStackTrace();
+                }
+            }
+        });
+    }
+}
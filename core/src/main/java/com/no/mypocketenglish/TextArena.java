@@ -0,0 +1,136 @@
+package com.no.mypocketenglish;
+
+import java.util.Arrays;
+
+// 번호 (slot) 별 문자열을 char 배열 하나에 이어 붙여 두는 저장소
+// 문자열마다 String 객체와 배열 헤더를 두지 않고, slot 마다 시작 위치와 길이 (int 두 개) 만 둔다.
+// 값을 바꾸면 끝에 새로 붙이고 예전 자리는 버려 두었다가, 버린 양이 절반을 넘으면 한 번에 당겨 쓴다.
+// 동기화 없음 (쓰는 쪽이 한 스레드에서만 쓰거나, 다 만든 뒤에는 읽기만 할 것).
+final class TextArena {
+
+    private static final int NONE = -1;
+
+    private char[] chars;
+    private int used = 0;
+    private int garbage = 0;
+    private int[] starts;
+    private int[] lengths;  // NONE: 값 없음
+    private int slotCount = 0;
+
+    TextArena(int expectedSlots, int expectedChars) {
+        chars = new char[Math.max(16, expectedChars)];
+        starts = new int[Math.max(4, expectedSlots)];
+        lengths = new int[starts.length];
+    }
+
+    int slotCount() {
+        return slotCount;
+    }
+
+    // slot 의 값을 바꾼다 (null 이면 지움)
+    void set(int slot, String text) {
+        ensureSlot(slot);
+        if (lengths[slot] != NONE) {
+            garbage += lengths[slot];
+        }
+        if (text == null) {
+            lengths[slot] = NONE;
+        } else {
+            ensureChars(text.length());
+            text.getChars(0, text.length(), chars, used);
+            starts[slot] = used;
+            lengths[slot] = text.length();
+            used += text.length();
+        }
+        if (garbage > 4096 && garbage > used / 2) {
+            compact();
+        }
+    }
+
+    boolean isSet(int slot) {
+        return slot < slotCount && lengths[slot] != NONE;
+    }
+
+    // 새 String 을 만든다 (화면에 보여줄 때만 쓸 것)
+    String get(int slot) {
+        return isSet(slot) ? new String(chars, starts[slot], lengths[slot]) : null;
+    }
+
+    boolean contentEquals(int slot, String text) {
+        if (!isSet(slot) || lengths[slot] != text.length()) {
+            return false;
+        }
+        int start = starts[slot];
+        for (int i = 0; i < lengths[slot]; i++) {
+            if (chars[start + i] != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // String.contains 와 같은 결과 (문자열을 만들지 않음)
+    boolean contains(int slot, String query) {
+        if (!isSet(slot)) {
+            return false;
+        }
+        int length = query.length();
+        if (length == 0) {
+            return true;
+        }
+        char first = query.charAt(0);
+        int start = starts[slot];
+        int last = start + lengths[slot] - length;
+        for (int i = start; i <= last; i++) {
+            if (chars[i] != first) {
+                continue;
+            }
+            int j = 1;
+            while (j < length && chars[i + j] == query.charAt(j)) {
+                j++;
+            }
+            if (j == length) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 글자 수 (배열 전체 크기는 capacity 쪽이 조금 더 큼)
+    int usedChars() {
+        return used;
+    }
+
+    private void ensureSlot(int slot) {
+        if (slot >= starts.length) {
+            int capacity = Math.max(starts.length * 2, slot + 1);
+            starts = Arrays.copyOf(starts, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+        }
+        while (slotCount <= slot) {
+            lengths[slotCount++] = NONE;
+        }
+    }
+
+    private void ensureChars(int extra) {
+        if (used + extra > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(chars.length * 2, used + extra));
+        }
+    }
+
+    // 살아 있는 값만 앞으로 당긴다 (slot 순서대로)
+    private void compact() {
+        char[] packed = new char[Math.max(16, used - garbage + used / 4)];
+        int position = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (lengths[slot] != NONE) {
+                System.arraycopy(chars, starts[slot], packed, position, lengths[slot]);
+                starts[slot] = position;
+                position += lengths[slot];
+            }
+        }
+        chars = packed;
+        used = position;
+        garbage = 0;
+    }
+}
@@ -0,0 +1,13 @@
+package com.no.mypocketenglish;
+
+// 번역 엔진 추상화 (ML Kit, 캐시, 테스트용 가짜 번역기 등)
+public interface TextTranslator {
+
+    interface Callback {
+        void onTranslated(String translatedText);
+
+        void onFailed(Exception e);
+    }
+
+    void translate(String text, Callback callback);
+}
@@ -0,0 +1,256 @@
+package com.no.mypocketenglish;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 번역 결과 캐시 (2단계)
+// 1단계: 메모리 LRU, 2단계: 디스크 파일 (앱을 다시 켜도 유지)
+// 디스크 파일은 추가 전용이고, 메모리에는 key 해시 -> 파일 위치만 둔다.
+public class TranslationCache {
+
+    public static final String FILE_NAME = "translation_cache.txt";
+    public static final int DEFAULT_MEMORY_CAPACITY = 256;
+    public static final int DEFAULT_MAX_DISK_ENTRIES = 5000;
+
+    private static TranslationCache instance;
+
+    private final File file;
+    private final int maxDiskEntries;
+    private final LinkedHashMap<String, String> memory;
+
+    private final Object diskLock = new Object();
+    private Map<Long, Long> diskIndex;  // key 해시 -> 줄 시작 위치 (처음 사용할 때 만든다)
+    private int diskRecords = 0;        // 파일의 줄 수 (덮어쓴 줄 포함)
+
+    private long memoryHits = 0;
+    private long diskHits = 0;
+    private long misses = 0;
+
+    public static synchronized TranslationCache getInstance(File filesDir) {
+        if (instance == null) {
+            instance = new TranslationCache(new File(filesDir, FILE_NAME),
+                    DEFAULT_MEMORY_CAPACITY, DEFAULT_MAX_DISK_ENTRIES);
+        }
+        return instance;
+    }
+
+    public TranslationCache(File file, final int memoryCapacity, int maxDiskEntries) {
+        this.file = file;
+        this.maxDiskEntries = maxDiskEntries;
+        this.memory = new LinkedHashMap<String, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > memoryCapacity;
+            }
+        };
+    }
+
+    // 언어쌍 + 정규화된 원문 (앞뒤 공백 제거, 연속 공백 하나로, NFC)
+    public static String key(String languagePair, String text) {
+        return languagePair + '\t' + normalize(text);
+    }
+
+    // 앞뒤 공백 제거, 연속 공백 하나로, NFC (가져오기 중복 검사에서도 사용)
+    static String normalize(String text) {
+        return Normalizer.normalize(text.trim(), Normalizer.Form.NFC).replaceAll("\\s+", " ");
+    }
+
+    // 메모리에서만 찾는다 (메인 스레드에서 호출 가능)
+    public String getFromMemory(String key) {
+        synchronized (memory) {
+            String value = memory.get(key);
+            if (value != null) {
+                memoryHits++;
+            }
+            return value;
+        }
+    }
+
+    // 디스크에서 찾고, 있으면 메모리로 올린다 (I/O 스레드에서 호출)
+    public String getFromDisk(String key) throws IOException {
+        String value;
+        synchronized (diskLock) {
+            ensureDiskIndex();
+            Long offset = diskIndex.get(hash(key));
+            value = offset != null ? readValueAt(offset, key) : null;
+        }
+        synchronized (memory) {
+            if (value != null) {
+                diskHits++;
+                memory.put(key, value);
+            } else {
+                misses++;
+            }
+        }
+        return value;
+    }
+
+    public void putInMemory(String key, String translation) {
+        synchronized (memory) {
+            memory.put(key, translation);
+        }
+    }
+
+    // 디스크에 추가 (I/O 스레드에서 호출)
+    public void persist(String key, String translation) throws IOException {
+        synchronized (diskLock) {
+            ensureDiskIndex();
+            long offset = file.length();
+            StringBuilder line = new StringBuilder();
+            SentenceJournalStore.appendEscaped(line, key);
+            line.append('\t');
+            SentenceJournalStore.appendEscaped(line, translation);
+            line.append('\n');
+            try (FileOutputStream fos = new FileOutputStream(file, true)) {
+                fos.write(line.toString().getBytes(StandardCharsets.UTF_8));
+            }
+            diskIndex.put(hash(key), offset);
+            diskRecords++;
+            if (diskRecords > maxDiskEntries) {
+                trimDisk();
+            }
+        }
+    }
+
+    public long getMemoryHits() {
+        synchronized (memory) {
+            return memoryHits;
+        }
+    }
+
+    public long getDiskHits() {
+        synchronized (memory) {
+            return diskHits;
+        }
+    }
+
+    public long getMisses() {
+        synchronized (memory) {
+            return misses;
+        }
+    }
+
+    @Override
+    public String toString() {
+        synchronized (memory) {
+            return "TranslationCache{memoryHits=" + memoryHits + ", diskHits=" + diskHits
+                    + ", misses=" + misses + ", memorySize=" + memory.size() + "}";
+        }
+    }
+
+    private void ensureDiskIndex() throws IOException {
+        if (diskIndex != null) {
+            return;
+        }
+        diskIndex = new HashMap<>();
+        diskRecords = 0;
+        if (!file.exists()) {
+            return;
+        }
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            long offset = 0;
+            long lineStart = 0;
+            int b;
+            while ((b = in.read()) != -1) {
+                offset++;
+                if (b != '\n') {
+                    bytes.write(b);
+                    continue;
+                }
+                List<String> fields = SentenceJournalStore.decodeFields(
+                        new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+                if (fields.size() == 2) {
+                    diskIndex.put(hash(fields.get(0)), lineStart);
+                    diskRecords++;
+                }
+                bytes.reset();
+                lineStart = offset;
+            }
+        }
+    }
+
+    private String readValueAt(long offset, String key) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            raf.seek(offset);
+            String line = readUtf8Line(raf);
+            if (line == null) {
+                return null;
+            }
+            List<String> fields = SentenceJournalStore.decodeFields(line);
+            // 해시 충돌이면 원문이 다르다
+            if (fields.size() != 2 || !key.equals(fields.get(0))) {
+                return null;
+            }
+            return fields.get(1);
+        }
+    }
+
+    // 가장 최근 항목 절반만 남기고 파일을 다시 쓴다
+    private void trimDisk() throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        }
+        List<String> kept = lines.subList(Math.max(0, lines.size() - maxDiskEntries / 2), lines.size());
+        File tmp = new File(file.getPath() + ".tmp");
+        try (BufferedWriter writer = new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(tmp), StandardCharsets.UTF_8))) {
+            for (String line : kept) {
+                writer.write(line);
+                writer.write('\n');
+            }
+        }
+        if (!tmp.renameTo(file)) {
+            throw new IOException("Failed to replace " + file);
+        }
+        diskIndex = null;
+        ensureDiskIndex();
+    }
+
+    // RandomAccessFile.readLine 은 UTF-8 을 모르므로 바이트로 읽어서 변환
+    private static String readUtf8Line(RandomAccessFile raf) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        int b;
+        boolean any = false;
+        while ((b = raf.read()) != -1) {
+            any = true;
+            if (b == '\n') {
+                break;
+            }
+            bytes.write(b);
+        }
+        return any ? new String(bytes.toByteArray(), StandardCharsets.UTF_8) : null;
+    }
+
+    // 64비트 FNV-1a
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+}
@@ -0,0 +1,128 @@
+package com.no.mypocketenglish;
+
+// 입력창 실시간 번역 파이프라인
+// - 타이핑이 멈출 때까지 기다렸다가 (debounce) 마지막 입력만 번역한다
+// - 직전에 요청한 문장과 같으면 다시 요청하지 않는다
+// - 늦게 도착한 예전 결과는 버리고 가장 최근 요청의 결과만 전달한다
+// 모든 메서드는 scheduler 가 작업을 실행하는 스레드 (앱에서는 메인 스레드) 에서 호출해야 한다.
+public class TranslationPipeline {
+
+    public static final long DEFAULT_DEBOUNCE_MS = 300;
+
+    public interface Listener {
+        void onTranslation(String sourceText, String translatedText);
+
+        void onTranslationFailed(String sourceText, Exception e);
+    }
+
+    // 지연 실행 (앱: 메인 Looper 의 Handler, 테스트: 손으로 시간을 넘기는 가짜)
+    public interface Scheduler {
+        void postDelayed(Runnable task, long delayMs);
+
+        void cancel(Runnable task);
+    }
+
+    private final Scheduler scheduler;
+    private final TextTranslator translator;
+    private final Listener listener;
+    private final long debounceMs;
+    private final Runnable flushPending = this::flush;
+
+    private String pendingText;         // debounce 대기 중인 입력
+    private String lastRequestedText;   // 마지막으로 번역을 요청한 입력
+    private int generation = 0;         // 요청마다 증가, 결과가 최신인지 확인하는 데 사용
+
+    private long requestsIssued = 0;
+    private long requestsSuppressed = 0;
+    private long staleResultsDropped = 0;
+
+    public TranslationPipeline(TextTranslator translator, Listener listener, Scheduler scheduler) {
+        this(translator, listener, scheduler, DEFAULT_DEBOUNCE_MS);
+    }
+
+    public TranslationPipeline(TextTranslator translator, Listener listener, Scheduler scheduler, long debounceMs) {
+        this.scheduler = scheduler;
+        this.translator = translator;
+        this.listener = listener;
+        this.debounceMs = debounceMs;
+    }
+
+    public void submit(String text) {
+        String normalized = text.trim();
+        scheduler.cancel(flushPending);
+        if (pendingText != null) {
+            requestsSuppressed++;  // 아직 요청하지 않은 입력은 새 입력으로 합쳐짐
+        }
+        if (normalized.isEmpty()) {
+            // 입력이 지워지면 진행 중인 번역 결과도 버린다
+            pendingText = null;
+            lastRequestedText = null;
+            generation++;
+            return;
+        }
+        pendingText = normalized;
+        scheduler.postDelayed(flushPending, debounceMs);
+    }
+
+    // 대기 중인 요청과 진행 중인 결과를 모두 취소
+    public void cancel() {
+        scheduler.cancel(flushPending);
+        pendingText = null;
+        lastRequestedText = null;
+        generation++;
+    }
+
+    private void flush() {
+        final String text = pendingText;
+        pendingText = null;
+        if (text == null) {
+            return;
+        }
+        if (text.equals(lastRequestedText)) {
+            requestsSuppressed++;
+            return;
+        }
+        lastRequestedText = text;
+        final int requestGeneration = ++generation;
+        requestsIssued++;
+        translator.translate(text, new TextTranslator.Callback() {
+            @Override
+            public void onTranslated(String translatedText) {
+                if (requestGeneration != generation) {
+                    staleResultsDropped++;
+                    return;
+                }
+                listener.onTranslation(text, translatedText);
+            }
+
+            @Override
+            public void onFailed(Exception e) {
+                if (requestGeneration != generation) {
+                    staleResultsDropped++;
+                    return;
+                }
+                lastRequestedText = null;  // 같은 입력으로 다시 시도할 수 있게
+                listener.onTranslationFailed(text, e);
+            }
+        });
+    }
+
+    public long getRequestsIssued() {
+        return requestsIssued;
+    }
+
+    public long getRequestsSuppressed() {
+        return requestsSuppressed;
+    }
+
+    public long getStaleResultsDropped() {
+        return staleResultsDropped;
+    }
+
+    @Override
+    public String toString() {
+        return "TranslationPipeline{issued=" + requestsIssued
+                + ", suppressed=" + requestsSuppressed
+                + ", staleDropped=" + staleResultsDropped + "}";
+    }
+}
@@ -0,0 +1,194 @@
+package com.no.mypocketenglish;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class BatchTranslationTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final FakeTranslator translator = new FakeTranslator();
+
+    // ML Kit 대신: 다른 스레드에서 조금 늦게 답하고, 동시에 몇 개가 나가 있었는지 센다
+    private static final class FakeTranslator implements TextTranslator {
+        final ExecutorService pool = Executors.newFixedThreadPool(8);
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public void translate(String text, Callback callback) {
+            calls.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            pool.execute(() -> {
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException ignored) {
+                }
+                inFlight.decrementAndGet();
+                if (text.startsWith("bad")) {
+                    callback.onFailed(new IOException("no model"));
+                } else {
+                    callback.onTranslated(" 번역 " + text + " ");
+                }
+            });
+        }
+    }
+
+    @After
+    public void stopTranslator() {
+        translator.pool.shutdownNow();
+    }
+
+    private SentenceRepository newRepository(int size) throws Exception {
+        SentenceRepository repository = new SentenceRepository(
+                new SentenceJournalStore(folder.newFolder(), 1024 * 1024), Runnable::run);
+        List<SentencePair> drafts = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            String sentence = i == 7 ? "bad " + i : "s" + i;
+            drafts.add(new SentencePair(0, sentence, i % 3 == 0 ? "뜻 " + i : "", 0, 0, 0));
+        }
+        repository.addAll(drafts);
+        return repository;
+    }
+
+    private BatchTranslation newJob(SentenceRepository repository, File checkpoint) {
+        return new BatchTranslation(repository, translator, Runnable::run, Runnable::run, checkpoint, 10, 3);
+    }
+
+    @Test
+    public void fillsEmptyTranslationsWithBoundedConcurrency() throws Exception {
+        SentenceRepository repository = newRepository(100);
+        File checkpoint = new File(folder.getRoot(), "batch.checkpoint");
+        List<BatchTranslation.Progress> reports = new ArrayList<>();
+
+        BatchTranslation.Progress result = newJob(repository, checkpoint).run(reports::add);
+
+        assertTrue(result.finished);
+        assertEquals(100, result.scanned);
+        assertEquals(65, result.translated);  // 뜻이 빈 66 개 중 하나는 실패
+        assertEquals(1, result.failed);
+        assertEquals(66, translator.calls.get());
+        assertTrue(translator.maxInFlight.get() <= 3);
+        assertEquals(11, reports.size());  // 페이지마다 + 마지막
+        assertFalse(BatchTranslation.hasCheckpoint(checkpoint));
+
+        List<SentencePair> entries = repository.getSentences();
+        assertEquals("뜻 0", entries.get(0).translation);
+        assertEquals("번역 s1", entries.get(1).translation);
+        assertEquals("", entries.get(7).translation);
+    }
+
+    @Test
+    public void resumesFromCheckpointWithoutRepeatingPages() throws Exception {
+        SentenceRepository repository = newRepository(45);
+        File checkpoint = new File(folder.getRoot(), "batch.checkpoint");
+        BatchTranslation first = newJob(repository, checkpoint);
+
+        try {
+            first.run(progress -> {
+                throw new IllegalStateException("killed");  // 첫 페이지 뒤에 앱이 죽음
+            });
+            fail();
+        } catch (IllegalStateException expected) {
+        }
+
+        assertTrue(BatchTranslation.hasCheckpoint(checkpoint));
+        assertTrue(BatchTranslation.isInterrupted(checkpoint));
+        int callsBefore = translator.calls.get();
+
+        BatchTranslation.Progress resumed = newJob(repository, checkpoint).run(null);
+
+        assertTrue(resumed.finished);
+        assertEquals(45, resumed.scanned);
+        assertEquals(30, translator.calls.get());  // 뜻이 빈 문장마다 한 번씩만
+        assertTrue(translator.calls.get() > callsBefore);
+        assertEquals(29, resumed.translated);
+        assertFalse(BatchTranslation.hasCheckpoint(checkpoint));
+        for (SentencePair entry : repository.getSentences()) {
+            assertEquals(entry.sentence.startsWith("bad"), entry.translation.isEmpty());
+        }
+    }
+
+    @Test
+    public void stoppedJobIsNotResumedAutomatically() throws Exception {
+        SentenceRepository repository = newRepository(45);
+        File checkpoint = new File(folder.getRoot(), "batch.checkpoint");
+        BatchTranslation first = newJob(repository, checkpoint);
+
+        BatchTranslation.Progress stopped = first.run(progress -> first.cancel());  // 첫 페이지 뒤에 사용자가 멈춤
+
+        assertFalse(stopped.finished);
+        assertEquals(10, stopped.scanned);
+        assertTrue(BatchTranslation.hasCheckpoint(checkpoint));
+        assertFalse(BatchTranslation.isInterrupted(checkpoint));
+
+        BatchTranslation.Progress resumed = newJob(repository, checkpoint).run(null);  // 다시 누르면 이어서
+
+        assertTrue(resumed.finished);
+        assertEquals(45, resumed.scanned);
+        assertEquals(30, translator.calls.get());
+    }
+
+    @Test
+    public void pausingBeforeRunKeepsCheckpointButStopsAutoResume() throws Exception {
+        SentenceRepository repository = newRepository(45);
+        File checkpoint = new File(folder.getRoot(), "batch.checkpoint");
+        BatchTranslation first = newJob(repository, checkpoint);
+        try {
+            first.run(progress -> {
+                throw new IllegalStateException("killed");
+            });
+            fail();
+        } catch (IllegalStateException expected) {
+        }
+
+        newJob(repository, checkpoint).markPaused();  // 이어 가려다 모델이 준비되기 전에 사용자가 멈춤
+
+        assertTrue(BatchTranslation.hasCheckpoint(checkpoint));
+        assertFalse(BatchTranslation.isInterrupted(checkpoint));
+        BatchTranslation.Progress resumed = newJob(repository, checkpoint).run(null);
+        assertTrue(resumed.finished);
+        assertEquals(45, resumed.scanned);
+        assertEquals(30, translator.calls.get());
+    }
+
+    @Test
+    public void failuresOfUnfinishedPageAreNotCountedTwice() throws Exception {
+        SentenceRepository repository = newRepository(45);
+        File checkpoint = new File(folder.getRoot(), "batch.checkpoint");
+        BatchTranslation[] job = new BatchTranslation[1];
+        AtomicInteger sent = new AtomicInteger();
+        job[0] = new BatchTranslation(repository, translator, r -> {
+            r.run();
+            if (sent.incrementAndGet() == 5) {
+                job[0].cancel();  // 첫 페이지의 실패하는 문장 ("bad 7") 까지 보낸 뒤 사용자가 멈춤
+            }
+        }, Runnable::run, checkpoint, 10, 3);
+
+        BatchTranslation.Progress stopped = job[0].run(null);
+
+        assertFalse(stopped.finished);
+        assertEquals(0, stopped.scanned);
+        assertEquals(0, stopped.failed);
+
+        BatchTranslation.Progress resumed = newJob(repository, checkpoint).run(null);
+
+        assertTrue(resumed.finished);
+        assertEquals(1, resumed.failed);
+        assertEquals(29, resumed.translated);
+    }
+}
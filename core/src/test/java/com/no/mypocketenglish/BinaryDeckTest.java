@@ -0,0 +1,52 @@
+package com.no.mypocketenglish;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class BinaryDeckTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void readsRecordsByIndex() throws Exception {
+        File file = folder.newFile("deck");
+        List<SentencePair> list = new ArrayList<>();
+        list.add(new SentencePair(3, "Hello", "안녕", 100, 2, 1));
+        list.add(new SentencePair(9, "", "줄\n바꿈\t탭", 200, 0, 0));
+        list.add(new SentencePair(4, "emoji 😀", "", 300, 5, 6));
+        BinaryDeck.write(file, list);
+
+        BinaryDeck deck = BinaryDeck.open(file);
+
+        assertEquals(3, deck.size());
+        assertEquals(9, deck.getMaxId());
+        assertEquals(4, deck.idAt(2));
+        SentencePair second = deck.get(1);
+        assertEquals(9, second.id);
+        assertEquals("줄\n바꿈\t탭", second.translation);
+        assertEquals(200, second.createdAt);
+        SentencePair third = deck.asList().get(2);
+        assertEquals("emoji 😀", third.sentence);
+        assertEquals(6, third.wrongCount);
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsOtherFiles() throws Exception {
+        File file = folder.newFile("text");
+        try (FileOutputStream fos = new FileOutputStream(file)) {
+            fos.write("1\tHello\t안녕\t0\t0\t0\n".getBytes(StandardCharsets.UTF_8));
+        }
+        BinaryDeck.open(file);
+    }
+}
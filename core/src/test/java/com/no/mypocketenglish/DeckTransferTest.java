@@ -0,0 +1,140 @@
+package com.no.mypocketenglish;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class DeckTransferTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private SentenceRepository newRepository() throws Exception {
+        return new SentenceRepository(new SentenceJournalStore(folder.newFolder(), 1024 * 1024), Runnable::run);
+    }
+
+    private static InputStream utf8(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void importsTsvInBatchesAndSkipsDuplicates() throws Exception {
+        SentenceRepository repository = newRepository();
+        repository.add("Hello", "안녕");
+        StringBuilder tsv = new StringBuilder("hello  \t중복\n\t뜻만\n");
+        for (int i = 0; i < 25; i++) {
+            tsv.append("word ").append(i).append('\t').append("단어 ").append(i).append('\n');
+        }
+        tsv.append("Word 3\t대소문자만 다름\n");
+        List<DeckTransfer.Progress> reports = new ArrayList<>();
+
+        DeckTransfer.Progress result = new DeckTransfer(repository, 10)
+                .importFrom(utf8(tsv.toString()), DeckTransfer.Format.TSV, reports::add);
+
+        assertEquals(28, result.rows);
+        assertEquals(25, result.added);
+        assertEquals(2, result.duplicates);
+        assertEquals(1, result.skipped);
+        assertEquals(26, repository.getSentences().size());
+        assertEquals(3, reports.size());  // 두 묶음 + 마지막
+    }
+
+    @Test
+    public void keepsSentencesWithoutTranslation() throws Exception {
+        SentenceRepository repository = newRepository();
+
+        DeckTransfer.Progress result = new DeckTransfer(repository)
+                .importFrom(utf8("only english\nboth\t둘 다\n"), DeckTransfer.Format.TSV, null);
+
+        assertEquals(2, result.added);
+        assertEquals(0, result.skipped);
+        assertEquals("", repository.getSentences().get(0).translation);
+    }
+
+    @Test
+    public void readsQuotedCsv() throws Exception {
+        SentenceRepository repository = newRepository();
+        String csv = "sentence,translation\r\n\"Hi, there\",\"안녕 \"\"친구\"\"\"\r\n\"two\nlines\",두 줄\n";
+
+        new DeckTransfer(repository).importFrom(utf8(csv), DeckTransfer.Format.CSV, null);
+
+        List<SentencePair> entries = repository.getSentences();
+        assertEquals(2, entries.size());
+        assertEquals("Hi, there", entries.get(0).sentence);
+        assertEquals("안녕 \"친구\"", entries.get(0).translation);
+        assertEquals("two\nlines", entries.get(1).sentence);
+    }
+
+    @Test
+    public void exportRoundTripsThroughEveryFormat() throws Exception {
+        SentenceRepository source = newRepository();
+        source.add("a, \"quoted\"", "탭\t과 줄\n바꿈");
+        source.add("plain", "보통");
+        for (DeckTransfer.Format format : DeckTransfer.Format.values()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            DeckTransfer.Progress exported = new DeckTransfer(source).exportTo(out, format, null);
+            assertEquals(2, exported.rows);
+
+            SentenceRepository target = newRepository();
+            new DeckTransfer(target).importFrom(new ByteArrayInputStream(out.toByteArray()), format, null);
+
+            List<SentencePair> entries = target.getSentences();
+            assertEquals(format.name(), 2, entries.size());
+            assertEquals(format.name(), "a, \"quoted\"", entries.get(0).sentence);
+            assertEquals(format.name(), "탭\t과 줄\n바꿈", entries.get(0).translation);
+        }
+    }
+
+    @Test
+    public void keepsBackslashesInTsvFromOtherApps() throws Exception {
+        SentenceRepository repository = newRepository();
+
+        new DeckTransfer(repository).importFrom(utf8("C:\\temp\\new\t경로 \\n\n"), DeckTransfer.Format.TSV, null);
+
+        SentencePair entry = repository.getSentences().get(0);
+        assertEquals("C:\\temp\\new", entry.sentence);
+        assertEquals("경로 \\n", entry.translation);
+    }
+
+    @Test
+    public void dedupeKeyIgnoresCaseAndWhitespace() {
+        assertEquals(DeckTransfer.dedupeKey("Hello world"), DeckTransfer.dedupeKey("  hello \t WORLD "));
+        assertEquals(DeckTransfer.dedupeKey("caf\u00e9"), DeckTransfer.dedupeKey("cafe\u0301"));
+        assertNotEquals(DeckTransfer.dedupeKey("hello world"), DeckTransfer.dedupeKey("helloworld"));
+    }
+
+    @Test
+    public void parsesOnCallerAndWritesBatchesOnStorageThread() throws Exception {
+        SentenceRepository repository = newRepository();
+        ExecutorService io = Executors.newSingleThreadExecutor();
+        AtomicInteger storageTasks = new AtomicInteger();
+        StringBuilder tsv = new StringBuilder();
+        for (int i = 0; i < 25; i++) {
+            tsv.append("word ").append(i).append('\t').append("단어 ").append(i).append('\n');
+        }
+        try {
+            DeckTransfer.Progress result = new DeckTransfer(repository, 10, task -> {
+                storageTasks.incrementAndGet();
+                io.execute(task);
+            }).importFrom(utf8(tsv.toString()), DeckTransfer.Format.TSV, null);
+
+            assertEquals(25, result.added);
+            assertEquals(4, storageTasks.get());  // 기존 목록 한 번 + 묶음 세 번
+            assertEquals("word 24", repository.getSentences().get(24).sentence);
+        } finally {
+            io.shutdownNow();
+        }
+    }
+}
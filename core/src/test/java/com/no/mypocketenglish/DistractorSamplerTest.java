@@ -0,0 +1,64 @@
+package com.no.mypocketenglish;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class DistractorSamplerTest {
+
+    @Test
+    public void picksDistinctIndicesOtherThanQuestion() {
+        Random random = new Random(42);
+        int[] out = new int[3];
+        for (int round = 0; round < 1000; round++) {
+            int filled = DistractorSampler.sample(5, 2, 3, out, random, null);
+            assertEquals(3, filled);
+            Set<Integer> seen = new HashSet<>();
+            for (int i = 0; i < filled; i++) {
+                assertNotEquals(2, out[i]);
+                assertTrue(out[i] >= 0 && out[i] < 5);
+                assertTrue(seen.add(out[i]));
+            }
+        }
+    }
+
+    @Test
+    public void smallDeckReturnsFewerDistractors() {
+        int[] out = new int[3];
+        assertEquals(0, DistractorSampler.sample(1, 0, 3, out, new Random(), null));
+        assertEquals(1, DistractorSampler.sample(2, 0, 3, out, new Random(), null));
+        assertEquals(1, out[0]);
+    }
+
+    @Test
+    public void fillsSlotsWhenAlmostEverythingIsRejected() {
+        int[] out = new int[3];
+        Random random = new Random(3);
+        for (int round = 0; round < 1000; round++) {
+            // 10000 개 중 500 개만 쓸 수 있음 (뜻이 빈 문장이 대부분인 덱)
+            int filled = DistractorSampler.sample(10000, 0, 3, out, random, index -> index % 20 == 1);
+            assertEquals(3, filled);
+            for (int i = 0; i < filled; i++) {
+                assertEquals(1, out[i] % 20);
+            }
+        }
+        assertEquals(0, DistractorSampler.sample(10000, 0, 3, out, random, index -> false));
+    }
+
+    @Test
+    public void skipsRejectedIndices() {
+        int[] out = new int[3];
+        Random random = new Random(7);
+        for (int round = 0; round < 100; round++) {
+            int filled = DistractorSampler.sample(1000, 0, 3, out, random, index -> index % 2 == 0);
+            assertEquals(3, filled);
+            for (int i = 0; i < filled; i++) {
+                assertEquals(0, out[i] % 2);
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.no.mypocketenglish;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class HangulJamoTest {
+
+    @Test
+    public void decomposesSyllablesAndCompoundJamo() {
+        assertEquals("ㅎㅏㄴㄱㅡㄹ", HangulJamo.decompose("한글"));
+        assertEquals("ㄷㅏㄹㄱ", HangulJamo.decompose("닭"));
+        assertEquals("ㄱㅗㅏ abc", HangulJamo.decompose("과 abc"));
+        assertEquals("ㄹㄱ", HangulJamo.decompose("ㄺ"));
+    }
+
+    @Test
+    public void extractsChoseong() {
+        assertEquals("ㅎㄱㅇ ㄱㅂ!", HangulJamo.choseong("한국어 공부!"));
+        assertTrue(HangulJamo.isChoseongQuery("ㅎㄱ ㅇ"));
+        assertFalse(HangulJamo.isChoseongQuery("한ㄱ"));
+        assertFalse(HangulJamo.isChoseongQuery("ㅏ"));
+        assertFalse(HangulJamo.isChoseongQuery(" "));
+    }
+}
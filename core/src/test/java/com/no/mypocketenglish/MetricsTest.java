@@ -0,0 +1,45 @@
+package com.no.mypocketenglish;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class MetricsTest {
+
+    @Test
+    public void histogramPercentilesUseBucketUpperBounds() {
+        Metrics.Timer timer = new Metrics().timer("t");
+        for (int i = 0; i < 90; i++) {
+            timer.record(100_000, 0);       // 100 us -> [64, 128)
+        }
+        for (int i = 0; i < 10; i++) {
+            timer.record(5_000_000, 2048);  // 5 ms -> [4096, 8192)
+        }
+
+        assertEquals(100, timer.getCount());
+        assertEquals(128, timer.percentileMicros(0.5));
+        assertEquals(8192, timer.percentileMicros(0.99));
+        assertEquals(5000, timer.getMaxMicros());
+        assertEquals(204, timer.getAllocatedBytesPerOp());
+    }
+
+    @Test
+    public void jsonSnapshotContainsCountersAndTimers() {
+        Metrics metrics = new Metrics();
+        metrics.increment("deck.reload.coalesced");
+        metrics.add("deck.reload.coalesced", 2);
+        metrics.start("list.filter").stop();
+
+        JsonObject json = JsonParser.parseString(
+                metrics.toJson(Collections.singletonMap("buildType", "debug"))).getAsJsonObject();
+
+        assertEquals("debug", json.getAsJsonObject("meta").get("buildType").getAsString());
+        assertEquals(3, json.getAsJsonObject("counters").get("deck.reload.coalesced").getAsLong());
+        assertEquals(1, json.getAsJsonObject("timers").getAsJsonObject("list.filter").get("count").getAsLong());
+    }
+}
@@ -0,0 +1,163 @@
+package com.no.mypocketenglish;
+
+import org.junit.Test;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class QuestionPrefetcherTest {
+
+    private static List<SentencePair> deck(int from, int size) {
+        List<SentencePair> deck = new ArrayList<>();
+        for (int i = from; i < from + size; i++) {
+            deck.add(new SentencePair(i, "s" + i, "t" + i, 0, 0, 0));
+        }
+        return deck;
+    }
+
+    private static QuestionPrefetcher prefetcher(long seed) {
+        Random random = new Random(seed);
+        // 워커 대신 호출한 스레드에서 바로 채운다
+        return new QuestionPrefetcher(new ReviewScheduler(random), random, 4, 3, Runnable::run);
+    }
+
+    @Test
+    public void keepsQueueFullAndNeverRepeatsPreviousQuestion() {
+        QuestionPrefetcher prefetcher = prefetcher(1);
+        prefetcher.setDeck(deck(1, 20));
+        assertEquals(3, prefetcher.readyCount());
+        long previous = -1;
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < 500; i++) {
+            QuestionPrefetcher.Question question = prefetcher.next();
+            assertEquals(3, prefetcher.readyCount());
+            assertNotEquals(previous, question.getPair().id);
+            previous = question.getPair().id;
+            seen.add(previous);
+
+            assertEquals(question.getPair().translation, question.getOption(question.getCorrectIndex()));
+            Set<String> options = new HashSet<>();
+            for (int j = 0; j < question.getOptionCount(); j++) {
+                assertTrue(options.add(question.getOption(j)));
+            }
+            prefetcher.answer(i % 3 != 0);
+        }
+        assertEquals(20, seen.size());
+    }
+
+    @Test
+    public void optionsNeverRepeatATranslationAndSkipEmptyOnes() {
+        List<SentencePair> deck = new ArrayList<>();
+        for (int i = 1; i <= 200; i++) {
+            // 뜻은 다섯 가지뿐이고 대부분은 아직 뜻이 없다
+            String translation = i % 10 == 0 ? "t" + (i / 10) % 5 : "";
+            deck.add(new SentencePair(i, "s" + i, translation, 0, 0, 0));
+        }
+        QuestionPrefetcher prefetcher = prefetcher(5);
+        prefetcher.setDeck(deck);
+        for (int i = 0; i < 200; i++) {
+            QuestionPrefetcher.Question question = prefetcher.next();
+            Set<String> options = new HashSet<>();
+            for (int j = 0; j < question.getOptionCount(); j++) {
+                String option = question.getOption(j);
+                assertNotNull(option);  // 서로 다른 뜻이 다섯 개라 세 칸은 항상 채워진다
+                assertFalse(option.isEmpty());
+                assertTrue(options.add(option));
+            }
+            prefetcher.answer(true);
+        }
+    }
+
+    @Test
+    public void testSentencesDoNotUsePreparedQuestions() {
+        QuestionPrefetcher prefetcher = prefetcher(6);
+        prefetcher.setDeck(deck(1, 20));
+        QuestionPrefetcher.Question game = prefetcher.next();
+        Set<Long> seen = new HashSet<>();
+        long previous = -1;
+        for (int i = 0; i < 100; i++) {
+            SentencePair pair = prefetcher.nextSentence();
+            assertNotEquals(previous, pair.id);
+            previous = pair.id;
+            seen.add(pair.id);
+            assertEquals(3, prefetcher.readyCount());  // 게임 큐는 그대로
+        }
+        assertTrue(seen.size() > 10);
+
+        prefetcher.answer(true);  // 게임 문제는 그대로 채점된다
+        assertNotEquals(game.getPair().id, prefetcher.next().getPair().id);
+    }
+
+    @Test
+    public void deckChangeDropsPreparedQuestions() {
+        QuestionPrefetcher prefetcher = prefetcher(2);
+        prefetcher.setDeck(deck(1, 10));
+        prefetcher.next();
+        prefetcher.setDeck(deck(100, 10));  // 예전 문장은 모두 삭제
+        for (int i = 0; i < 30; i++) {
+            QuestionPrefetcher.Question question = prefetcher.next();
+            assertTrue(question.getPair().id >= 100);
+            for (int j = 0; j < question.getOptionCount(); j++) {
+                assertTrue(question.getOption(j).compareTo("t100") >= 0);
+            }
+            prefetcher.answer(true);
+        }
+    }
+
+    @Test
+    public void smallDecksLeaveEmptyOptionsAndEmptyDeckHasNoQuestion() {
+        QuestionPrefetcher prefetcher = prefetcher(3);
+        assertNull(prefetcher.next());
+        prefetcher.setDeck(deck(1, 2));
+        for (int i = 0; i < 6; i++) {
+            QuestionPrefetcher.Question question = prefetcher.next();
+            int filled = 0;
+            for (int j = 0; j < question.getOptionCount(); j++) {
+                if (question.getOption(j) != null) {
+                    filled++;
+                }
+            }
+            assertEquals(2, filled);
+            prefetcher.answer(false);
+        }
+        prefetcher.setDeck(deck(1, 1));
+        assertEquals(1, prefetcher.next().getPair().id);
+        assertEquals(1, prefetcher.next().getPair().id);  // 채점하지 않아도 하나뿐이면 다시 나온다
+    }
+
+    @Test
+    public void readsNewDeckOnWorkerNotOnCaller() {
+        List<Runnable> tasks = new ArrayList<>();
+        Random random = new Random(5);
+        QuestionPrefetcher prefetcher = new QuestionPrefetcher(new ReviewScheduler(random), random, 4, 3, tasks::add);
+        List<SentencePair> backing = deck(1, 20);
+        AtomicInteger reads = new AtomicInteger();
+        List<SentencePair> deck = new AbstractList<SentencePair>() {
+            @Override
+            public SentencePair get(int index) {
+                reads.incrementAndGet();
+                return backing.get(index);
+            }
+
+            @Override
+            public int size() {
+                return backing.size();
+            }
+        };
+
+        prefetcher.setDeck(deck);
+
+        assertEquals(0, reads.get());
+        assertEquals(1, tasks.size());
+        tasks.remove(0).run();  // 워커
+        assertTrue(reads.get() >= 20);
+        assertEquals(3, prefetcher.readyCount());
+    }
+}
@@ -0,0 +1,106 @@
+package com.no.mypocketenglish;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ReviewSchedulerTest {
+
+    private static List<SentencePair> deck(int size) {
+        List<SentencePair> deck = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            deck.add(new SentencePair(i + 1, "s" + i, "t" + i, 0, 0, 0));
+        }
+        return deck;
+    }
+
+    @Test
+    public void singleEntryDeckKeepsReturningIt() {
+        ReviewScheduler scheduler = new ReviewScheduler(new Random(1));
+        scheduler.setDeck(deck(1));
+        for (int i = 0; i < 5; i++) {
+            ReviewScheduler.Item item = scheduler.next();
+            assertEquals(1, item.getPair().id);
+            assertEquals(0, item.getIndex());
+            scheduler.answer(i % 2 == 0);
+        }
+        assertNull(new ReviewScheduler(new Random(1)).next());
+    }
+
+    @Test
+    public void skipsEntriesWithoutTranslation() {
+        List<SentencePair> deck = deck(3);
+        deck.set(0, new SentencePair(1, "s0", "", 0, 0, 0));
+        ReviewScheduler scheduler = new ReviewScheduler(new Random(1));
+        scheduler.setDeck(deck);
+        assertEquals(2, scheduler.size());
+        for (int i = 0; i < 6; i++) {
+            assertNotEquals(1, scheduler.next().getPair().id);
+            scheduler.answer(true);
+        }
+    }
+
+    @Test
+    public void neverRepeatsPreviousQuestionAndRetriesMissesSooner() {
+        ReviewScheduler scheduler = new ReviewScheduler(new Random(3));
+        scheduler.setDeck(deck(20));
+        Map<Long, Integer> seen = new HashMap<>();
+        long previous = -1;
+        for (int i = 0; i < 2000; i++) {
+            ReviewScheduler.Item item = scheduler.next();
+            assertNotEquals(previous, item.getPair().id);
+            previous = item.getPair().id;
+            Integer count = seen.get(previous);
+            seen.put(previous, count == null ? 1 : count + 1);
+            scheduler.answer(previous != 5);  // 5 번만 계속 틀림
+        }
+        assertEquals(20, seen.size());
+        for (Map.Entry<Long, Integer> entry : seen.entrySet()) {
+            if (entry.getKey() != 5) {
+                assertTrue(seen.get(5L) > entry.getValue());
+            }
+        }
+    }
+
+    @Test
+    public void keepsStateAndDropsDeletedEntriesOnDeckChange() {
+        ReviewScheduler scheduler = new ReviewScheduler(new Random(5));
+        List<SentencePair> deck = deck(3);
+        scheduler.setDeck(deck);
+        ReviewScheduler.Item first = scheduler.next();
+        scheduler.answer(true);
+        int box = first.getBox();
+
+        List<SentencePair> smaller = new ArrayList<>(deck);
+        smaller.remove(first.getPair().id == 1 ? 1 : 0);
+        scheduler.setDeck(smaller);
+
+        assertEquals(2, scheduler.size());
+        for (int i = 0; i < 10; i++) {
+            ReviewScheduler.Item item = scheduler.next();
+            assertTrue(smaller.contains(item.getPair()));
+            assertEquals(smaller.indexOf(item.getPair()), item.getIndex());
+            if (item.getPair().id == first.getPair().id) {
+                assertEquals(box, item.getBox());
+            }
+        }
+    }
+
+    @Test
+    public void seedsBoxFromStats() {
+        ReviewScheduler scheduler = new ReviewScheduler(new Random(7));
+        SentencePair known = new SentencePair(1, "known", "알아", 0, 10, 0);
+        SentencePair weak = new SentencePair(2, "weak", "몰라", 0, 1, 4);
+        scheduler.setDeck(Arrays.asList(known, weak));
+
+        assertEquals(weak, scheduler.next().getPair());  // 약한 문장이 먼저
+        assertEquals(ReviewScheduler.MAX_BOX, ReviewScheduler.seedBox(known));
+    }
+}
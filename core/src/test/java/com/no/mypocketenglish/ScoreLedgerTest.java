@@ -0,0 +1,52 @@
+package com.no.mypocketenglish;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class ScoreLedgerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void flushWritesTotalStatsAndSessionOnce() throws Exception {
+        File dir = folder.getRoot();
+        SentenceJournalStore store = new SentenceJournalStore(dir, 1024 * 1024);
+        SentencePair entry = store.add("one", "하나");
+        SentenceRepository repository = new SentenceRepository(store, Runnable::run);
+        ScoreStore scoreStore = new ScoreStore(dir);
+        scoreStore.save(10);
+        ScoreLedger ledger = new ScoreLedger(dir, scoreStore, repository, Runnable::run, 60_000);
+        ledger.loadAsync(null);
+
+        ledger.startSession();
+        ledger.record(entry.id, true);
+        ledger.record(entry.id, true);
+        ledger.record(entry.id, false);
+        ledger.record(entry.id, true);
+        ledger.endSession();
+        ledger.flush();
+
+        // I/O 스레드의 작업이 끝날 때까지 기다림
+        CountDownLatch done = new CountDownLatch(1);
+        StorageExecutor.io().execute(done::countDown);
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+
+        assertEquals(13, ledger.getTotalScore());
+        assertEquals(13, scoreStore.load());
+        SentencePair reloaded = new SentenceJournalStore(dir, 1024 * 1024).load().get(0);
+        assertEquals(3, reloaded.correctCount);
+        assertEquals(1, reloaded.wrongCount);
+        ScoreLedger.Session session = ledger.getSessionSummary();
+        assertEquals(4, session.getAnswered());
+        assertEquals(2, session.getBestStreak());
+        assertTrue(new File(dir, ScoreLedger.SESSION_FILE_NAME).length() > 0);
+    }
+}
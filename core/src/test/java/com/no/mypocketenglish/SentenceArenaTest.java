@@ -0,0 +1,57 @@
+package com.no.mypocketenglish;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class SentenceArenaTest {
+
+    @Test
+    public void listViewMatchesSource() {
+        List<SentencePair> source = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            source.add(new SentencePair(i * 2 + 1, "sentence " + i, i % 2 == 0 ? "" : "뜻 " + i, 1000L + i, i % 5, i % 3));
+        }
+
+        List<SentencePair> list = SentenceArena.of(source).asList();
+
+        assertEquals(source.size(), list.size());
+        for (int i = 0; i < source.size(); i++) {
+            SentencePair expected = source.get(i);
+            SentencePair actual = list.get(i);
+            assertEquals(expected.id, actual.id);
+            assertEquals(expected.sentence, actual.sentence);
+            assertEquals(expected.translation, actual.translation);
+            assertEquals(expected.createdAt, actual.createdAt);
+            assertEquals(expected.correctCount, actual.correctCount);
+            assertEquals(expected.wrongCount, actual.wrongCount);
+        }
+        try {
+            list.get(1000);
+            fail();
+        } catch (IndexOutOfBoundsException expected) {
+            // 범위 밖
+        }
+    }
+
+    @Test
+    public void schedulerReadsQuestionsFromArena() {
+        SentenceArena.Builder builder = new SentenceArena.Builder(0, 0);  // 작게 시작해서 늘어남
+        for (int i = 0; i < 50; i++) {
+            builder.add(i + 1, "s" + i, "t" + i, 0, 0, 0);
+        }
+        SentenceArena arena = builder.build();
+        ReviewScheduler scheduler = new ReviewScheduler(new Random(5));
+        scheduler.setDeck(arena.asList());
+        for (int i = 0; i < 200; i++) {
+            ReviewScheduler.Item item = scheduler.next();
+            assertEquals(arena.idAt(item.getIndex()), item.getId());
+            assertEquals("t" + (item.getId() - 1), item.getPair().translation);
+            scheduler.answer(i % 4 != 0);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.no.mypocketenglish;
+
+import org.junit.Rule;
+import org.junit.rules.TemporaryFolder;
+
+public class SentenceJournalStorageContractTest extends SentenceStorageContract {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Override
+    protected SentenceStorage open() {
+        return new SentenceJournalStore(folder.getRoot(), 1024 * 1024);
+    }
+}
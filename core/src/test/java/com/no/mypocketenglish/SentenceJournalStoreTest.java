@@ -0,0 +1,219 @@
+package com.no.mypocketenglish;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class SentenceJournalStoreTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void importsLegacyFileOnFirstLoad() throws Exception {
+        File dir = folder.getRoot();
+        try (FileOutputStream fos = new FileOutputStream(new File(dir, SentenceJournalStore.LEGACY_FILE_NAME))) {
+            fos.write("Hello///안녕\nbroken line\nBye///잘가\n".getBytes(StandardCharsets.UTF_8));
+        }
+
+        List<SentencePair> entries = new SentenceJournalStore(dir, 1024).load();
+
+        assertEquals(2, entries.size());
+        assertEquals("Hello", entries.get(0).sentence);
+        assertEquals("잘가", entries.get(1).translation);
+        assertTrue(new File(dir, SentenceJournalStore.BASE_FILE_NAME).exists());
+    }
+
+    @Test
+    public void replaysJournalOnReload() throws Exception {
+        File dir = folder.getRoot();
+        SentenceJournalStore store = new SentenceJournalStore(dir, 1024 * 1024);
+        SentencePair first = store.add("one", "하나");
+        SentencePair second = store.add("two\twith tab", "둘\n줄바꿈");
+        store.add("three", "셋");
+        store.update(first.id, "ONE", "하나!");
+        store.delete(second.id);
+
+        List<SentencePair> entries = new SentenceJournalStore(dir, 1024 * 1024).load();
+
+        assertEquals(2, entries.size());
+        assertEquals("ONE", entries.get(0).sentence);
+        assertEquals("하나!", entries.get(0).translation);
+        assertEquals("three", entries.get(1).sentence);
+    }
+
+    @Test
+    public void keepsCreatedAtAndStatsAcrossReload() throws Exception {
+        File dir = folder.getRoot();
+        SentenceJournalStore store = new SentenceJournalStore(dir, 1024 * 1024);
+        SentencePair added = store.add("one", "하나");
+        store.replace(added.withStats(3, 1));
+        store.update(added.id, "One", "하나");
+
+        SentencePair reloaded = new SentenceJournalStore(dir, 1024 * 1024).load().get(0);
+
+        assertEquals("One", reloaded.sentence);
+        assertEquals(added.createdAt, reloaded.createdAt);
+        assertEquals(3, reloaded.correctCount);
+        assertEquals(1, reloaded.wrongCount);
+    }
+
+    @Test
+    public void convertsTextBaseWithoutStats() throws Exception {
+        File dir = folder.getRoot();
+        try (FileOutputStream fos = new FileOutputStream(new File(dir, SentenceJournalStore.TEXT_BASE_FILE_NAME))) {
+            fos.write("7\tHello\t안녕\n".getBytes(StandardCharsets.UTF_8));
+        }
+
+        SentenceJournalStore store = new SentenceJournalStore(dir, 1024 * 1024);
+        List<SentencePair> entries = store.load();
+
+        assertEquals(1, entries.size());
+        assertEquals(0, entries.get(0).correctCount);
+        assertEquals(8, store.add("next", "다음").id);
+        assertTrue(new File(dir, SentenceJournalStore.BASE_FILE_NAME).exists());
+        assertFalse(new File(dir, SentenceJournalStore.TEXT_BASE_FILE_NAME).exists());
+    }
+
+    @Test
+    public void compactionKeepsAllEntries() throws Exception {
+        File dir = folder.getRoot();
+        SentenceJournalStore store = new SentenceJournalStore(dir, 256);
+        for (int i = 0; i < 200; i++) {
+            store.add("sentence " + i, "문장 " + i);
+        }
+        // compaction 은 백그라운드에서 실행되므로 잠시 기다림
+        for (int i = 0; i < 100 && store.isCompacting(); i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(new File(dir, SentenceJournalStore.JOURNAL_FILE_NAME).length() < 16 * 1024);
+
+        List<SentencePair> entries = new SentenceJournalStore(dir, 256).load();
+
+        assertEquals(200, entries.size());
+        assertEquals("문장 199", entries.get(199).translation);
+    }
+
+    @Test
+    public void pagesBaseDeckWithoutExpanding() throws Exception {
+        File dir = folder.getRoot();
+        List<SentencePair> deck = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) {
+            deck.add(new SentencePair(i * 2, "s" + i, "t" + i, 0, 0, 0));  // id 는 띄엄띄엄
+        }
+        BinaryDeck.write(new File(dir, SentenceJournalStore.BASE_FILE_NAME), deck);
+        SentenceJournalStore store = new SentenceJournalStore(dir, 1024 * 1024);
+
+        assertEquals(100, store.count());
+        assertEquals(2, store.page(0, 10).get(0).id);
+        List<SentencePair> page = store.page(51, 3);
+        assertEquals(3, page.size());
+        assertEquals(52, page.get(0).id);
+        assertEquals(56, page.get(2).id);
+        assertTrue(store.page(200, 10).isEmpty());
+    }
+
+    @Test
+    public void layersJournalOverBaseDeckWithoutExpanding() throws Exception {
+        File dir = folder.getRoot();
+        List<SentencePair> deck = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) {
+            deck.add(new SentencePair(i, "s" + i, "t" + i, 0, 0, 0));
+        }
+        BinaryDeck.write(new File(dir, SentenceJournalStore.BASE_FILE_NAME), deck);
+        SentenceJournalStore store = new SentenceJournalStore(dir, 1024 * 1024);
+        Map<Long, int[]> stats = new HashMap<>();
+        stats.put(10L, new int[]{1, 0});
+        store.addStats(stats);
+        store.delete(20);
+        store.add("new", "새");
+
+        SentenceJournalStore reopened = new SentenceJournalStore(dir, 1024 * 1024);
+        List<SentencePair> entries = reopened.load();
+
+        assertEquals(3, reopened.overlaySize());  // 바뀐 것 + 지운 것 + 추가한 것만 메모리에
+        assertEquals(100, entries.size());
+        assertEquals(1, entries.get(9).correctCount);
+        assertEquals(21, entries.get(19).id);
+        assertEquals("new", entries.get(99).sentence);
+        assertEquals(101, entries.get(99).id);
+        List<SentencePair> page = reopened.page(18, 3);
+        assertEquals(19, page.get(0).id);
+        assertEquals(21, page.get(1).id);
+        assertEquals(101, reopened.page(99, 10).get(1).id);
+        assertNull(reopened.update(20, "gone", "없음"));
+    }
+
+    @Test
+    public void loadedListDoesNotSeeLaterWrites() throws Exception {
+        SentenceJournalStore store = new SentenceJournalStore(folder.getRoot(), 1024 * 1024);
+        SentencePair first = store.add("one", "하나");
+        store.add("two", "둘");
+        List<SentencePair> before = store.load();
+
+        store.delete(first.id);
+        store.add("three", "셋");
+
+        assertEquals(2, before.size());
+        assertEquals("one", before.get(0).sentence);
+        assertEquals(2, store.load().size());
+    }
+
+    @Test
+    public void doesNotReuseDeletedMaxIdAfterCompaction() throws Exception {
+        File dir = folder.getRoot();
+        SentenceJournalStore store = new SentenceJournalStore(dir, 256);
+        SentencePair last = null;
+        for (int i = 0; i < 20; i++) {
+            last = store.add("sentence " + i, "문장 " + i);
+        }
+        for (int i = 0; i < 100 && store.isCompacting(); i++) {
+            Thread.sleep(10);
+        }
+        store.delete(last.id);
+        for (int i = 0; i < 40; i++) {
+            store.update(1, "first " + i, "처음");  // journal 을 채워서 compaction 을 다시 일으킴
+        }
+        for (int i = 0; i < 100 && store.isCompacting(); i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(last.id, BinaryDeck.open(new File(dir, SentenceJournalStore.BASE_FILE_NAME)).getMaxId());
+
+        SentencePair added = new SentenceJournalStore(dir, 1024 * 1024).add("new", "새");
+
+        assertEquals(last.id + 1, added.id);
+    }
+
+    @Test
+    public void pagesDeepIntoJournalOnlyEntries() throws Exception {
+        SentenceJournalStore store = new SentenceJournalStore(folder.getRoot(), Long.MAX_VALUE);
+        List<SentencePair> drafts = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            drafts.add(new SentencePair(0, "s" + i, "t" + i, 0, 0, 0));
+        }
+        store.addAll(drafts);
+        for (long id = 2; id <= 5000; id += 2) {
+            store.delete(id);
+        }
+        store.update(4001, "changed", "바뀜");
+
+        List<SentencePair> page = store.page(3998, 3);
+
+        assertEquals(3, page.size());
+        assertEquals(3999, page.get(0).id);
+        assertEquals("changed", page.get(1).sentence);
+        assertEquals(4003, page.get(2).id);
+        assertTrue(store.page(4999, 10).isEmpty());
+        assertEquals(2500, store.count());
+    }
+}
@@ -0,0 +1,150 @@
+package com.no.mypocketenglish;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SentencePageWindowTest {
+
+    // id 가 띄엄띄엄한 덱에서 keyset 으로 읽고, 읽은 횟수를 센다
+    private static final class FakeDeck implements SentencePageWindow.Loader {
+        final List<SentencePair> rows = new ArrayList<>();
+        int calls;
+
+        FakeDeck(int size) {
+            for (int i = 0; i < size; i++) {
+                rows.add(new SentencePair(i * 3 + 1, "s" + i, "t" + i, 0, 0, 0));
+            }
+        }
+
+        @Override
+        public List<SentencePair> page(long afterId, int limit) {
+            calls++;
+            List<SentencePair> page = new ArrayList<>();
+            for (SentencePair row : rows) {
+                if (row.id > afterId && page.size() < limit) {
+                    page.add(row);
+                }
+            }
+            return page;
+        }
+    }
+
+    private static void load(SentencePageWindow window, FakeDeck deck, int page) throws Exception {
+        assertTrue(window.startLoading(page));
+        int generation = window.getGeneration();
+        assertTrue(window.put(generation, page, window.fetch(generation, page, deck)));
+    }
+
+    @Test
+    public void loadsOnlyRequestedPagesAndKeepsWindowBounded() throws Exception {
+        FakeDeck deck = new FakeDeck(1000);
+        SentencePageWindow window = new SentencePageWindow(50, 3);
+        window.reset(deck.rows.size());
+
+        assertNull(window.get(0));
+        load(window, deck, 0);
+        assertEquals("s0", window.get(0).sentence);
+        assertEquals("s49", window.get(49).sentence);
+        assertNull(window.get(50));
+        assertFalse(window.startLoading(0));  // 이미 있음
+        assertFalse(window.startLoading(20)); // 개수 밖
+
+        for (int page = 1; page < 10; page++) {
+            load(window, deck, page);
+            assertTrue(window.loadedPageCount() <= 3);
+        }
+        assertEquals("s499", window.get(499).sentence);
+        assertNull(window.get(0));  // 먼 페이지는 버려짐
+        assertEquals(10, deck.calls);  // 커서를 알아서 페이지마다 한 번씩만 읽음
+    }
+
+    @Test
+    public void jumpingAheadWalksCursorsOnce() throws Exception {
+        FakeDeck deck = new FakeDeck(1000);
+        SentencePageWindow window = new SentencePageWindow(50, 3);
+        window.reset(deck.rows.size());
+
+        load(window, deck, 12);
+        assertEquals("s600", window.get(600).sentence);
+        assertEquals(13, deck.calls);
+        assertEquals(1, window.loadedPageCount());
+
+        load(window, deck, 5);  // 이미 지나온 페이지는 커서로 바로 읽는다
+        assertEquals(14, deck.calls);
+        assertEquals("s250", window.get(250).sentence);
+    }
+
+    @Test
+    public void resetDropsPagesAndStaleResults() throws Exception {
+        FakeDeck deck = new FakeDeck(120);
+        SentencePageWindow window = new SentencePageWindow(50, 3);
+        window.reset(deck.rows.size());
+        load(window, deck, 0);
+
+        assertTrue(window.startLoading(1));
+        int generation = window.getGeneration();
+        List<SentencePair> rows = window.fetch(generation, 1, deck);
+        deck.rows.remove(0);
+        window.reset(deck.rows.size());
+
+        assertFalse(window.put(generation, 1, rows));
+        assertNull(window.get(0));
+        assertEquals(119, window.getCount());
+        load(window, deck, 2);
+        assertEquals("s101", window.get(100).sentence);
+        assertNull(window.get(119));  // 마지막 페이지는 19 개
+    }
+
+    @Test
+    public void replacePatchesOnlyTheLoadedRow() throws Exception {
+        FakeDeck deck = new FakeDeck(120);
+        SentencePageWindow window = new SentencePageWindow(50, 3);
+        window.reset(deck.rows.size());
+        load(window, deck, 1);
+        int generation = window.getGeneration();
+
+        SentencePair changed = deck.rows.get(60).withText("changed", "바뀜");
+        assertEquals(60, window.replace(changed));
+        assertEquals(-1, window.replace(deck.rows.get(5).withText("x", "y")));  // 읽지 않은 페이지
+
+        assertEquals("changed", window.get(60).sentence);
+        assertEquals(generation, window.getGeneration());
+        assertFalse(window.startLoading(1));
+    }
+
+    @Test
+    public void removeShiftsLoadedPagesAndDropsShiftedLoads() throws Exception {
+        FakeDeck deck = new FakeDeck(200);
+        SentencePageWindow window = new SentencePageWindow(50, 4);
+        window.reset(deck.rows.size());
+        load(window, deck, 0);
+        load(window, deck, 1);
+        assertTrue(window.startLoading(2));
+        int before = window.getGeneration();
+        List<SentencePair> staleRows = window.fetch(before, 2, deck);
+
+        SentencePair removed = deck.rows.remove(10);
+        assertEquals(10, window.remove(removed.id));
+        assertEquals(-1, window.remove(removed.id));
+
+        assertEquals(199, window.getCount());
+        assertEquals("s11", window.get(10).sentence);
+        assertEquals("s50", window.get(49).sentence);  // 다음 페이지에서 당겨 옴
+        assertEquals("s99", window.get(98).sentence);
+        assertNull(window.get(99));                    // 마지막으로 당긴 페이지는 하나 모자람
+        assertFalse(window.put(before, 2, staleRows));  // 한 칸 어긋난 결과
+
+        assertTrue(window.startLoading(1));  // 모자란 페이지는 다시 읽는다
+        int calls = deck.calls;
+        int generation = window.getGeneration();
+        assertTrue(window.put(generation, 1, window.fetch(generation, 1, deck)));
+        assertEquals(calls + 1, deck.calls);  // 커서를 알아서 한 번에
+        assertEquals("s100", window.get(99).sentence);
+        load(window, deck, 2);
+        assertEquals("s101", window.get(100).sentence);
+    }
+}
@@ -0,0 +1,90 @@
+package com.no.mypocketenglish;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class SentenceRepositoryTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void asyncWritesKeepOrderAndNotifyListeners() throws Exception {
+        SentenceJournalStore store = new SentenceJournalStore(folder.getRoot(), 1024 * 1024);
+        SentenceRepository repository = new SentenceRepository(store, Runnable::run);
+        AtomicLong lastVersion = new AtomicLong();
+        repository.addListener(lastVersion::set);
+
+        repository.addAsync("one", "하나", null);
+        repository.addAsync("two", "둘", null);
+        CountDownLatch loaded = new CountDownLatch(1);
+        AtomicReference<List<SentencePair>> result = new AtomicReference<>();
+        repository.loadAsync(entries -> {
+            result.set(entries);
+            loaded.countDown();
+        });
+
+        assertTrue(loaded.await(5, TimeUnit.SECONDS));
+        assertEquals(2, result.get().size());
+        assertEquals("two", result.get().get(1).sentence);
+        assertEquals(2, lastVersion.get());
+        assertSame(result.get(), repository.getSentences());  // 쓰기 전까지 같은 스냅샷
+    }
+
+    @Test
+    public void statsWritesDoNotBumpTheVersion() throws Exception {
+        SentenceJournalStore store = new SentenceJournalStore(folder.getRoot(), 1024 * 1024);
+        SentenceRepository repository = new SentenceRepository(store, Runnable::run);
+        AtomicLong notified = new AtomicLong();
+        repository.addListener(version -> notified.incrementAndGet());
+        SentencePair added = repository.add("one", "하나");
+        repository.getSentences();
+
+        repository.addStats(Collections.singletonMap(added.id, new int[] {2, 1}));
+
+        assertEquals(1, repository.getVersion());
+        assertEquals(1, notified.get());
+        assertEquals(2, repository.getSentences().get(0).correctCount);  // 다음에 읽을 때는 새 기록
+    }
+
+    @Test
+    public void singleRowChangesAreReportedByRow() throws Exception {
+        SentenceJournalStore store = new SentenceJournalStore(folder.getRoot(), 1024 * 1024);
+        SentenceRepository repository = new SentenceRepository(store, Runnable::run);
+        List<String> events = new ArrayList<>();
+        repository.addListener(new SentenceRepository.Listener() {
+            @Override
+            public void onSentencesChanged(long version) {
+                events.add("changed " + version);
+            }
+
+            @Override
+            public void onSentenceUpdated(long version, SentencePair entry) {
+                events.add("updated " + version + " " + entry.sentence);
+            }
+
+            @Override
+            public void onSentenceDeleted(long version, long id) {
+                events.add("deleted " + version + " " + id);
+            }
+        });
+        SentencePair added = repository.add("one", "하나");
+
+        repository.update(added.id, "ONE", "하나");
+        repository.delete(added.id);
+
+        assertEquals(Arrays.asList("changed 1", "updated 2 ONE", "deleted 3 " + added.id), events);
+    }
+}
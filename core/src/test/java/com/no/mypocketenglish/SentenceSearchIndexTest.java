@@ -0,0 +1,101 @@
+package com.no.mypocketenglish;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SentenceSearchIndexTest {
+
+    private static SentencePair pair(long id, String sentence, String translation) {
+        return new SentencePair(id, sentence, translation, 0, 0, 0);
+    }
+
+    private static List<Long> ids(List<SentencePair> pairs) {
+        List<Long> ids = new ArrayList<>();
+        for (SentencePair pair : pairs) {
+            ids.add(pair.id);
+        }
+        return ids;
+    }
+
+    @Test
+    public void findsEnglishAndKoreanIgnoringCase() {
+        SentenceSearchIndex index = new SentenceSearchIndex();
+        index.add(pair(1, "How are you?", "잘 지내?"));
+        index.add(pair(2, "Where are you going", "어디 가?"));
+        index.add(pair(3, "I am fine", "잘 지내요"));
+
+        assertEquals(2, index.search("ARE YOU").size());
+        assertEquals(2, index.search("잘 지내").size());
+        assertEquals(3, index.search("e").size());
+        assertTrue(index.search("xyz").isEmpty());
+    }
+
+    @Test
+    public void narrowsPreviousResultsInDeckOrder() {
+        SentenceSearchIndex index = new SentenceSearchIndex();
+        for (int i = 0; i < 100; i++) {
+            index.add(pair(i, "sentence number " + i, "문장 " + i));
+        }
+
+        assertEquals(11, index.search("number 1").size());
+        List<SentencePair> narrowed = index.search("number 12");
+        assertEquals(1, narrowed.size());
+        assertEquals(12, narrowed.get(0).id);
+        assertEquals(ids(index.search("number 1")), ids(index.search("number 1")));
+        assertEquals(Long.valueOf(1), ids(index.search("number 1")).get(0));
+    }
+
+    @Test
+    public void staysInSyncOnEditAndDelete() {
+        SentenceSearchIndex index = new SentenceSearchIndex();
+        index.add(pair(1, "apple pie", "사과 파이"));
+        index.add(pair(2, "banana bread", "바나나 빵"));
+
+        assertEquals(1, index.search("apple").size());
+        index.update(pair(1, "cherry pie", "체리 파이"));
+        assertTrue(index.search("apple").isEmpty());
+        assertEquals(1, index.search("cherry").size());
+
+        index.remove(2);
+        assertTrue(index.search("banana").isEmpty());
+        assertEquals(1, index.size());
+        assertEquals(1, index.all().size());
+    }
+
+    @Test
+    public void resultStaysTheSameAfterEditAndDelete() {
+        SentenceSearchIndex index = new SentenceSearchIndex();
+        index.add(pair(1, "apple pie", "사과 파이"));
+        index.add(pair(2, "apple juice", "사과 주스"));
+        index.add(pair(3, "banana bread", "바나나 빵"));
+
+        List<SentencePair> shown = index.search("apple");  // 화면이 차이 계산에 넘긴 결과
+        index.update(pair(1, "cherry pie", "체리 파이"));
+        index.remove(2);
+
+        assertEquals(2, shown.size());
+        assertEquals("apple pie", shown.get(0).sentence);
+        assertEquals("apple juice", shown.get(1).sentence);
+        assertTrue(index.search("apple").isEmpty());
+        assertEquals("cherry pie", index.all().get(0).sentence);
+    }
+
+    @Test
+    public void findsKoreanByChoseongAndPartialSyllable() {
+        SentenceSearchIndex index = new SentenceSearchIndex();
+        index.add(pair(1, "I study Korean", "한국어 공부"));
+        index.add(pair(2, "Chicken", "닭 한 마리"));
+        index.add(pair(3, "Hello", "안녕하세요"));
+
+        assertEquals(Long.valueOf(1), ids(index.search("ㅎㄱㅇ")).get(0));
+        assertEquals(1, index.search("ㅎㄱㅇ ㄱㅂ").size());
+        assertEquals(1, index.search("한구").size());     // "한국" 을 입력하는 중
+        assertEquals(1, index.search("달").size());       // "닭" 을 입력하는 중
+        assertEquals(1, index.search("안녕ㅎ").size());
+        assertTrue(index.search("ㅋㅋ").isEmpty());
+    }
+}
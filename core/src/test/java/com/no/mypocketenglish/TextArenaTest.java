@@ -0,0 +1,42 @@
+package com.no.mypocketenglish;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TextArenaTest {
+
+    @Test
+    public void containsMatchesStringContains() {
+        TextArena arena = new TextArena(2, 4);
+        String[] texts = {"hello world", "", "aab", "한국어 문장", "abcabd"};
+        for (int i = 0; i < texts.length; i++) {
+            arena.set(i, texts[i]);
+        }
+        String[] queries = {"", "o w", "world", "worlds", "ab", "aab", "abd", "국어", "x", "abcabd!"};
+        for (int i = 0; i < texts.length; i++) {
+            assertTrue(arena.contentEquals(i, texts[i]));
+            assertEquals(texts[i], arena.get(i));
+            for (String query : queries) {
+                assertEquals(texts[i] + " / " + query, texts[i].contains(query), arena.contains(i, query));
+            }
+        }
+        assertFalse(arena.isSet(5));
+        assertFalse(arena.contains(9, ""));
+    }
+
+    @Test
+    public void rewritesAndRemovalsAreCompacted() {
+        TextArena arena = new TextArena(4, 16);
+        for (int round = 0; round < 200; round++) {
+            for (int slot = 0; slot < 10; slot++) {
+                arena.set(slot, "slot " + slot + " round " + round);
+            }
+        }
+        arena.set(3, null);
+        assertNull(arena.get(3));
+        assertFalse(arena.isSet(3));
+        assertEquals("slot 9 round 199", arena.get(9));
+        assertTrue(arena.usedChars() < 10_000);  // 모두 쌓였다면 약 36000 자
+    }
+}
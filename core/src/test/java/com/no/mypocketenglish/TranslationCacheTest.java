@@ -0,0 +1,88 @@
+package com.no.mypocketenglish;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class TranslationCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void keyIgnoresExtraWhitespace() {
+        assertEquals(TranslationCache.key("en>ko", "  how   are you "), TranslationCache.key("en>ko", "how are you"));
+        assertNotEquals(TranslationCache.key("en>ko", "hi"), TranslationCache.key("en>ja", "hi"));
+    }
+
+    @Test
+    public void evictsFromMemoryButKeepsOnDisk() throws Exception {
+        File file = new File(folder.getRoot(), TranslationCache.FILE_NAME);
+        TranslationCache cache = new TranslationCache(file, 2, 100);
+        String[] keys = {TranslationCache.key("en>ko", "one"), TranslationCache.key("en>ko", "two"),
+                TranslationCache.key("en>ko", "three")};
+        String[] values = {"하나", "둘", "셋"};
+        for (int i = 0; i < keys.length; i++) {
+            cache.putInMemory(keys[i], values[i]);
+            cache.persist(keys[i], values[i]);
+        }
+
+        assertNull(cache.getFromMemory(keys[0]));
+        assertEquals("하나", cache.getFromDisk(keys[0]));
+        assertEquals("하나", cache.getFromMemory(keys[0]));
+        assertEquals(1, cache.getDiskHits());
+        assertEquals(1, cache.getMemoryHits());
+
+        // 다시 열어도 디스크 단계는 유지
+        TranslationCache reopened = new TranslationCache(file, 2, 100);
+        assertEquals("셋", reopened.getFromDisk(keys[2]));
+        assertNull(reopened.getFromDisk(TranslationCache.key("en>ko", "four")));
+        assertEquals(1, reopened.getMisses());
+    }
+
+    @Test
+    public void trimsDiskTierToRecentEntries() throws Exception {
+        File file = new File(folder.getRoot(), TranslationCache.FILE_NAME);
+        TranslationCache cache = new TranslationCache(file, 1, 10);
+        for (int i = 0; i < 11; i++) {
+            cache.persist(TranslationCache.key("en>ko", "n" + i), "값" + i);
+        }
+
+        assertNull(cache.getFromDisk(TranslationCache.key("en>ko", "n0")));
+        assertEquals("값10", cache.getFromDisk(TranslationCache.key("en>ko", "n10")));
+    }
+
+    @Test
+    public void cachingTranslatorRecordsFailedEngineCalls() throws Exception {
+        TranslationCache cache = new TranslationCache(new File(folder.getRoot(), TranslationCache.FILE_NAME), 2, 100);
+        TextTranslator failing = (text, callback) -> callback.onFailed(new IOException("no model"));
+        long calls = Metrics.global().count("translate.engine.calls");
+        long timed = Metrics.global().timer("translate.engine").getCount();
+        long requests = Metrics.global().timer("translate").getCount();
+        CountDownLatch done = new CountDownLatch(1);
+
+        new CachingTextTranslator(cache, "en>ko", failing, Runnable::run).translate("hello", new TextTranslator.Callback() {
+            @Override
+            public void onTranslated(String translatedText) {
+                done.countDown();
+            }
+
+            @Override
+            public void onFailed(Exception e) {
+                done.countDown();
+            }
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(calls + 1, Metrics.global().count("translate.engine.calls"));
+        assertEquals(timed + 1, Metrics.global().timer("translate.engine").getCount());
+        assertEquals(requests + 1, Metrics.global().timer("translate").getCount());
+    }
+}
@@ -0,0 +1,145 @@
+package com.no.mypocketenglish;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class TranslationPipelineTest {
+
+    // 손으로 시간을 넘기는 scheduler
+    private static final class FakeScheduler implements TranslationPipeline.Scheduler {
+        final Map<Runnable, Long> tasks = new LinkedHashMap<>();
+        long now = 0;
+
+        @Override
+        public void postDelayed(Runnable task, long delayMs) {
+            tasks.put(task, now + delayMs);
+        }
+
+        @Override
+        public void cancel(Runnable task) {
+            tasks.remove(task);
+        }
+
+        void advance(long ms) {
+            now += ms;
+            List<Runnable> due = new ArrayList<>();
+            for (Iterator<Map.Entry<Runnable, Long>> it = tasks.entrySet().iterator(); it.hasNext(); ) {
+                Map.Entry<Runnable, Long> task = it.next();
+                if (task.getValue() <= now) {
+                    due.add(task.getKey());
+                    it.remove();
+                }
+            }
+            for (Runnable task : due) {
+                task.run();
+            }
+        }
+    }
+
+    // 요청을 모아 두었다가 테스트가 원하는 순서로 답한다
+    private static final class FakeTranslator implements TextTranslator {
+        final List<String> texts = new ArrayList<>();
+        final List<Callback> callbacks = new ArrayList<>();
+
+        @Override
+        public void translate(String text, Callback callback) {
+            texts.add(text);
+            callbacks.add(callback);
+        }
+    }
+
+    private final FakeScheduler scheduler = new FakeScheduler();
+    private final FakeTranslator translator = new FakeTranslator();
+    private final List<String> shown = new ArrayList<>();
+    private final List<String> failed = new ArrayList<>();
+    private final TranslationPipeline pipeline = new TranslationPipeline(translator, new TranslationPipeline.Listener() {
+        @Override
+        public void onTranslation(String sourceText, String translatedText) {
+            shown.add(sourceText + "=" + translatedText);
+        }
+
+        @Override
+        public void onTranslationFailed(String sourceText, Exception e) {
+            failed.add(sourceText);
+        }
+    }, scheduler, 300);
+
+    @Test
+    public void debouncesAndTranslatesOnlyTheLastInput() {
+        pipeline.submit("H");
+        scheduler.advance(100);
+        pipeline.submit("He");
+        scheduler.advance(100);
+        pipeline.submit(" Hello ");
+        scheduler.advance(299);
+        assertTrue(translator.texts.isEmpty());
+
+        scheduler.advance(1);
+
+        assertEquals(1, translator.texts.size());
+        assertEquals("Hello", translator.texts.get(0));
+        assertEquals(2, pipeline.getRequestsSuppressed());
+        translator.callbacks.get(0).onTranslated("안녕");
+        assertEquals("Hello=안녕", shown.get(0));
+    }
+
+    @Test
+    public void doesNotRequestTheSameTextTwice() {
+        pipeline.submit("Hello");
+        scheduler.advance(300);
+        pipeline.submit("Hello ");
+        scheduler.advance(300);
+
+        assertEquals(1, pipeline.getRequestsIssued());
+        assertEquals(1, translator.texts.size());
+    }
+
+    @Test
+    public void dropsResultsThatArriveAfterANewerRequest() {
+        pipeline.submit("one");
+        scheduler.advance(300);
+        pipeline.submit("two");
+        scheduler.advance(300);
+
+        translator.callbacks.get(1).onTranslated("둘");
+        translator.callbacks.get(0).onTranslated("하나");  // 늦게 도착
+
+        assertEquals(1, shown.size());
+        assertEquals("two=둘", shown.get(0));
+        assertEquals(1, pipeline.getStaleResultsDropped());
+    }
+
+    @Test
+    public void clearingOrCancellingDropsPendingWork() {
+        pipeline.submit("one");
+        scheduler.advance(300);
+        pipeline.submit("");  // 입력을 지움
+        translator.callbacks.get(0).onTranslated("하나");
+        pipeline.submit("two");
+        pipeline.cancel();
+        scheduler.advance(1000);
+
+        assertTrue(shown.isEmpty());
+        assertEquals(1, translator.texts.size());
+    }
+
+    @Test
+    public void failureAllowsRetryingTheSameText() {
+        pipeline.submit("one");
+        scheduler.advance(300);
+        translator.callbacks.get(0).onFailed(new IOException("offline"));
+        pipeline.submit("one");
+        scheduler.advance(300);
+
+        assertEquals("one", failed.get(0));
+        assertEquals(2, translator.texts.size());
+    }
+}
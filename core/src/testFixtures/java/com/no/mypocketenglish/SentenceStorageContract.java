@@ -0,0 +1,137 @@
+package com.no.mypocketenglish;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+// 모든 저장 엔진이 통과해야 하는 테스트 (엔진별 테스트가 상속)
+// core 의 단위 테스트와 app 의 기기 테스트 (SQLite) 가 같이 쓴다.
+public abstract class SentenceStorageContract {
+
+    private SentenceStorage storage;
+
+    // 같은 저장 위치를 새로 연다 (다시 열어도 내용이 남아 있는지 확인할 때)
+    protected abstract SentenceStorage open() throws Exception;
+
+    private SentenceStorage reopen() throws Exception {
+        if (storage != null) {
+            storage.close();
+        }
+        storage = open();
+        return storage;
+    }
+
+    @After
+    public void closeStorage() throws Exception {
+        if (storage != null) {
+            storage.close();
+        }
+    }
+
+    @Test
+    public void writesSurviveReopen() throws Exception {
+        SentenceStorage store = reopen();
+        SentencePair first = store.add("one", "하나");
+        SentencePair second = store.add("two\twith tab", "둘\n줄바꿈");
+        store.add("three", "셋");
+        assertTrue(second.id > first.id);
+        assertEquals("ONE", store.update(first.id, "ONE", "하나!").sentence);
+        assertTrue(store.delete(second.id));
+        assertNull(store.update(second.id, "x", "y"));
+        assertFalse(store.delete(second.id));
+
+        List<SentencePair> entries = reopen().load();
+
+        assertEquals(2, entries.size());
+        assertEquals("ONE", entries.get(0).sentence);
+        assertEquals("하나!", entries.get(0).translation);
+        assertEquals(first.createdAt, entries.get(0).createdAt);
+        assertEquals("three", entries.get(1).sentence);
+        assertTrue(reopen().add("four", "넷").id > entries.get(1).id);
+    }
+
+    @Test
+    public void batchWritesKeepStatsAndSkipMissingIds() throws Exception {
+        SentenceStorage store = reopen();
+        List<SentencePair> drafts = new ArrayList<>();
+        drafts.add(new SentencePair(0, "a", "가", 0, 2, 1));
+        drafts.add(new SentencePair(0, "b", "나", 0, 0, 0));
+        List<SentencePair> added = store.addAll(drafts);
+        assertEquals(2, added.size());
+        assertTrue(added.get(1).id > added.get(0).id);
+        assertEquals(2, added.get(0).correctCount);
+
+        Map<Long, int[]> deltas = new HashMap<>();
+        deltas.put(added.get(0).id, new int[] {1, 0});
+        deltas.put(added.get(1).id, new int[] {0, 3});
+        deltas.put(added.get(1).id + 100, new int[] {1, 1});  // 없는 문장
+        assertEquals(2, store.addStats(deltas).size());
+        assertEquals("b", store.update(added.get(1).id, "b", "나!").sentence);
+
+        List<SentencePair> entries = reopen().load();
+        assertEquals(3, entries.get(0).correctCount);
+        assertEquals(1, entries.get(0).wrongCount);
+        assertEquals(3, entries.get(1).wrongCount);
+        assertEquals("나!", entries.get(1).translation);
+    }
+
+    @Test
+    public void fillTranslationsOnlyTouchesEmptyTranslations() throws Exception {
+        SentenceStorage store = reopen();
+        SentencePair empty = store.add("one", "");
+        SentencePair written = store.add("two", "둘");
+        SentencePair deleted = store.add("three", "");
+        store.delete(deleted.id);
+
+        Map<Long, String> translations = new HashMap<>();
+        translations.put(empty.id, "하나");
+        translations.put(written.id, "자동");
+        translations.put(deleted.id, "셋");
+        List<SentencePair> updated = store.fillTranslations(translations);
+
+        assertEquals(1, updated.size());
+        assertEquals("하나", updated.get(0).translation);
+        List<SentencePair> entries = reopen().load();
+        assertEquals(2, entries.size());
+        assertEquals("하나", entries.get(0).translation);
+        assertEquals(empty.createdAt, entries.get(0).createdAt);
+        assertEquals("둘", entries.get(1).translation);
+    }
+
+    @Test
+    public void countAndKeysetPagesWalkTheDeckInIdOrder() throws Exception {
+        SentenceStorage store = reopen();
+        List<SentencePair> drafts = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            drafts.add(new SentencePair(0, "s" + i, "t" + i, 0, 0, 0));
+        }
+        List<SentencePair> added = store.addAll(drafts);
+        store.delete(added.get(10).id);
+        assertEquals(249, store.count());
+
+        for (int pass = 0; pass < 2; pass++) {
+            List<Long> ids = new ArrayList<>();
+            long afterId = 0;
+            List<SentencePair> page;
+            while (!(page = store.page(afterId, 64)).isEmpty()) {
+                assertTrue(page.size() <= 64);
+                for (SentencePair entry : page) {
+                    assertTrue(entry.id > afterId);
+                    ids.add(entry.id);
+                    afterId = entry.id;
+                }
+            }
+            assertEquals(249, ids.size());
+            assertFalse(ids.contains(added.get(10).id));
+            assertEquals("s249", store.page(added.get(248).id, 64).get(0).sentence);
+            store = reopen();  // 두 번째는 다시 연 저장소에서
+        }
+        assertEquals(249, store.count());
+    }
+}